@@ -0,0 +1,68 @@
+package com.example.p2so.benchmark;
+
+import com.example.p2so.benchmark.SyntheticWorkloads.Arrivals;
+import com.example.p2so.benchmark.SyntheticWorkloads.Bursts;
+import com.example.p2so.model.Configuration;
+import com.example.p2so.model.ProcessTask;
+import com.example.p2so.model.SchedulerResult;
+import com.example.p2so.service.ConfigurationService;
+import com.example.p2so.service.SchedulerService;
+import com.example.p2so.service.SimulationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Mede o caminho completo de uma requisição: os sete algoritmos via SchedulerService,
+ * incluindo a conversão da lista de processos para o formato compacto.
+ * Execute com: mvn -Pjmh test-compile exec:exec -Djmh.args="RunAllSchedulersBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RunAllSchedulersBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int processCount;
+
+    @Param({"BATCH", "DENSE", "SPARSE"})
+    public Arrivals arrivals;
+
+    @Param({"EXPONENTIAL", "HEAVY_TAIL"})
+    public Bursts bursts;
+
+    @Param({"2", "20"})
+    public int quantum;
+
+    @Param({"1", "5"})
+    public int aging;
+
+    private SchedulerService schedulerService;
+    private List<ProcessTask> processes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Configuration config = new Configuration(quantum, aging);
+        ConfigurationService configService = new ConfigurationService() {
+            @Override
+            public Configuration getConfiguration() {
+                return config;
+            }
+        };
+        // Cache desativado: cada iteração mede a simulação completa
+        SimulationMetrics metrics = new SimulationMetrics(new SimpleMeterRegistry());
+        schedulerService = new SchedulerService(configService, metrics, TimeUnit.HOURS.toMillis(1), 0, 0,
+                                                Integer.MAX_VALUE);
+        processes = SyntheticWorkloads.processes(processCount, arrivals, bursts);
+    }
+
+    @Benchmark
+    public Map<String, SchedulerResult> runAllSchedulers() {
+        return schedulerService.runAllSchedulers(processes);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.p2so.benchmark;
+
+import com.example.p2so.benchmark.SyntheticWorkloads.Arrivals;
+import com.example.p2so.benchmark.SyntheticWorkloads.Bursts;
+import com.example.p2so.model.Configuration;
+import com.example.p2so.model.SchedulerResult;
+import com.example.p2so.scheduler.ProcessTable;
+import com.example.p2so.scheduler.Scheduler;
+import com.example.p2so.service.SchedulerService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Mede cada algoritmo isoladamente sobre cargas sintéticas.
+ * A carga e a tabela são montadas uma vez; cada iteração mede apenas a simulação.
+ * Execute com: mvn -Pjmh test-compile exec:exec -Djmh.args="SchedulerBenchmark -p processCount=1000"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchedulerBenchmark {
+
+    @Param({"FCFS", "SJF", "SRTF", "PRIORITY", "PRIORITY_PREEMPTIVE", "ROUND_ROBIN", "ROUND_ROBIN_PRIORITY"})
+    public String algorithm;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int processCount;
+
+    @Param({"BATCH", "DENSE", "SPARSE"})
+    public Arrivals arrivals;
+
+    @Param({"EXPONENTIAL", "HEAVY_TAIL"})
+    public Bursts bursts;
+
+    @Param({"2", "20"})
+    public int quantum;
+
+    @Param({"1"})
+    public int aging;
+
+    private Scheduler scheduler;
+    private ProcessTable table;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduler = SchedulerService.getScheduler(algorithm, new Configuration(quantum, aging));
+        table = new ProcessTable(SyntheticWorkloads.workload(processCount, arrivals, bursts));
+    }
+
+    @Benchmark
+    public SchedulerResult schedule() {
+        return scheduler.schedule(table);
+    }
+}
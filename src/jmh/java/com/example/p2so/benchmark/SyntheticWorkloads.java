@@ -0,0 +1,74 @@
+package com.example.p2so.benchmark;
+
+import com.example.p2so.model.ProcessTask;
+import com.example.p2so.model.Workload;
+import com.example.p2so.model.WorkloadSpec;
+import com.example.p2so.service.WorkloadGenerator;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cargas sintéticas reprodutíveis (seed fixo) para os benchmarks, geradas pelo WorkloadGenerator.
+ */
+public final class SyntheticWorkloads {
+
+    /**
+     * Densidade de chegadas (Poisson)
+     */
+    public enum Arrivals {
+        BATCH,   // Todos chegam no instante 0
+        DENSE,   // Intervalo médio de 1 unidade: fila sempre cheia
+        SPARSE   // Intervalo médio maior que o burst médio: muitos períodos ociosos
+    }
+
+    /**
+     * Distribuição das durações
+     */
+    public enum Bursts {
+        EXPONENTIAL,  // Exponencial com média 10
+        HEAVY_TAIL    // Pareto (alfa 1.5, média 3), limitada a 10000
+    }
+
+    private static final long SEED = 42;
+
+    private SyntheticWorkloads() {
+    }
+
+    public static Workload workload(int processCount, Arrivals arrivals, Bursts bursts) {
+        WorkloadSpec spec = new WorkloadSpec();
+        spec.setProcessCount(processCount);
+        spec.setSeed(SEED);
+        spec.setArrivals(WorkloadSpec.Arrivals.POISSON);
+        spec.setMeanInterArrival(switch (arrivals) {
+            case BATCH -> 0.0;
+            case DENSE -> 1.0;
+            case SPARSE -> 50.0;
+        });
+        switch (bursts) {
+            case EXPONENTIAL -> {
+                spec.setBursts(WorkloadSpec.Bursts.EXPONENTIAL);
+                spec.setMeanBurst(10.0);
+            }
+            case HEAVY_TAIL -> {
+                spec.setBursts(WorkloadSpec.Bursts.PARETO);
+                spec.setParetoAlpha(1.5);
+                spec.setMeanBurst(3.0);
+                spec.setMaxBurst(10_000);
+            }
+        }
+        spec.setPriorities(WorkloadSpec.Priorities.UNIFORM);
+        spec.setPriorityMin(1);
+        spec.setPriorityMax(10);
+        return WorkloadGenerator.generate(spec);
+    }
+
+    public static List<ProcessTask> processes(int processCount, Arrivals arrivals, Bursts bursts) {
+        Workload workload = workload(processCount, arrivals, bursts);
+        List<ProcessTask> processes = new ArrayList<>(processCount);
+        for (int i = 0; i < processCount; i++) {
+            processes.add(new ProcessTask(workload.getId(i), workload.getArrivalTime(i),
+                                          workload.getBurstTime(i), workload.getPriority(i)));
+        }
+        return processes;
+    }
+}
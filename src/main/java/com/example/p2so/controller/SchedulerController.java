@@ -1,23 +1,46 @@
 package com.example.p2so.controller;
 
 import com.example.p2so.model.*;
+import com.example.p2so.scheduler.Scheduler;
 import com.example.p2so.service.*;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Controller principal que gerencia as requisições web
  */
 @Controller
 public class SchedulerController {
+    private static final int MAX_DIAGRAM_COLUMNS = 1024;  // Processos por diagrama de tempo
+    private static final int MAX_TIMELINE_SLICES = 100_000;  // Fatias por consulta ao timeline
+
     private final SchedulerService schedulerService;
     private final ConfigurationService configService;
+    private final WorkloadFileService workloadFileService;
+    private final SimulationJobService jobService;
+    private final ProgressStreamService progressStreamService;
+    private final SimulationMetrics metrics;
 
-    public SchedulerController(SchedulerService schedulerService, ConfigurationService configService) {
+    public SchedulerController(SchedulerService schedulerService, ConfigurationService configService,
+                               WorkloadFileService workloadFileService, SimulationJobService jobService,
+                               ProgressStreamService progressStreamService, SimulationMetrics metrics) {
         this.schedulerService = schedulerService;
         this.configService = configService;
+        this.workloadFileService = workloadFileService;
+        this.jobService = jobService;
+        this.progressStreamService = progressStreamService;
+        this.metrics = metrics;
     }
 
     /**
@@ -28,6 +51,7 @@ public class SchedulerController {
         Configuration config = configService.getConfiguration();
         model.addAttribute("quantum", config.getQuantum());
         model.addAttribute("aging", config.getAgingRate());
+        model.addAttribute("cores", config.getCores());
 
         // Exemplo de entrada
         String exampleInput = "0 5 2\n0 2 3\n1 4 1\n3 3 4";
@@ -43,30 +67,497 @@ public class SchedulerController {
     @ResponseBody
     public Map<String, Object> simulate(@RequestBody SimulationRequest request) {
         try {
-            // Atualiza configuração se fornecida
-            if (request.getQuantum() > 0 && request.getAging() > 0) {
-                configService.updateConfiguration(request.getQuantum(), request.getAging());
-            }
+            // Configuração desta requisição (valores ausentes vêm da configuração padrão)
+            Configuration config = configService.getConfiguration().with(request.getQuantum(), request.getAging(), request.getCores());
 
             // Parse dos processos
-            List<ProcessTask> processes = schedulerService.parseProcesses(request.getProcessInput());
+            WorkloadParser parser = new WorkloadParser();
+            Workload workload = parse(parser, request.getProcessInput());
+
+            return runSimulation(workload, config, parser);
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "Erro ao executar simulação: " + e.getMessage());
+            return error;
+        }
+    }
+
+    /**
+     * Executa os algoritmos lendo a entrada diretamente do corpo da requisição
+     * (texto puro, uma linha por processo), sem carregá-la inteira em memória.
+     * Indicada para cargas grandes; quantum, aging e núcleos vêm como parâmetros da URL.
+     */
+    @PostMapping(value = "/simulate/upload", consumes = {"text/plain", "application/octet-stream"})
+    @ResponseBody
+    public Map<String, Object> simulateUpload(InputStream body,
+                                              @RequestParam(required = false) Integer quantum,
+                                              @RequestParam(required = false) Integer aging,
+                                              @RequestParam(required = false) Integer cores) {
+        try {
+            // Configuração desta requisição (valores ausentes vêm da configuração padrão)
+            Configuration config = configService.getConfiguration().with(quantum, aging, cores);
+
+            WorkloadParser parser = new WorkloadParser();
+            Workload workload = parse(parser, body);
+
+            return runSimulation(workload, config, parser);
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "Erro ao executar simulação: " + e.getMessage());
+            return error;
+        }
+    }
+
+    /**
+     * Executa os algoritmos e transmite os resultados em NDJSON enquanto são produzidos
+     * (ver NdjsonResultWriter). A entrada é lida como em /simulate/upload; erros
+     * são enviados como uma linha {"type":"error"}.
+     */
+    @PostMapping(value = "/simulate/stream", consumes = {"text/plain", "application/octet-stream"},
+                 produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> simulateStream(InputStream body,
+                                                                @RequestParam(required = false) Integer quantum,
+                                                                @RequestParam(required = false) Integer aging,
+                                                                @RequestParam(required = false) Integer cores) {
+        Workload workload;
+        Configuration config = null;
+        WorkloadParser parser = new WorkloadParser();
+        String failure = null;
+        try {
+            // Configuração desta requisição (valores ausentes vêm da configuração padrão)
+            config = configService.getConfiguration().with(quantum, aging, cores);
+            workload = parse(parser, body);
+            if (workload.size() == 0) {
+                failure = "Nenhum processo válido fornecido";
+            }
+        } catch (Exception e) {
+            workload = null;
+            failure = "Erro ao executar simulação: " + e.getMessage();
+        }
+
+        if (failure != null) {
+            return ndjsonResponse(null, null, parser, failure);
+        }
+        return ndjsonResponse(workload, config, parser, null);
+    }
+
+    /**
+     * Gera uma carga sintética (ver WorkloadSpec) e transmite os resultados em NDJSON,
+     * como em /simulate/stream. Nada é enviado ou lido como texto, então cargas de
+     * milhões de processos não têm custo de upload nem de parse.
+     */
+    @PostMapping(value = "/simulate/generated", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> simulateGenerated(@RequestBody WorkloadSpec spec,
+                                                                   @RequestParam(required = false) Integer quantum,
+                                                                   @RequestParam(required = false) Integer aging,
+                                                                   @RequestParam(required = false) Integer cores) {
+        try {
+            Configuration config = configService.getConfiguration().with(quantum, aging, cores);
+            Workload workload = WorkloadGenerator.generate(spec);
+            metrics.recordWorkload(workload);
+            return ndjsonResponse(workload, config, null, null);
+        } catch (IllegalArgumentException e) {
+            return ndjsonResponse(null, null, null, "Erro ao gerar carga: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Resposta NDJSON com os resultados de todos os algoritmos, ou apenas uma linha de erro
+     * @param parser Leitor da entrada em texto, para informar as linhas inválidas (null se não houver)
+     */
+    private ResponseEntity<StreamingResponseBody> ndjsonResponse(Workload workload, Configuration config,
+                                                                 WorkloadParser parser, String error) {
+        StreamingResponseBody stream = output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+            NdjsonResultWriter ndjson = new NdjsonResultWriter(writer);
+            if (error != null) {
+                ndjson.writeError(error);
+                return;
+            }
+
+            ndjson.writeWorkload(workload.size(),
+                                 parser != null ? parser.getMalformedCount() : 0,
+                                 parser != null ? parser.getMalformedLines() : List.of());
+            try {
+                schedulerService.streamAllSchedulers(workload, config, ndjson);
+            } catch (RuntimeException e) {
+                ndjson.writeError("Erro ao executar simulação: " + e.getMessage());
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(stream);
+    }
+
+    /**
+     * Executa os algoritmos transmitindo o progresso por Server-Sent Events
+     * (ver SseProgressPublisher). Entrada como em /simulate/upload; 429 se a fila estiver cheia.
+     */
+    @PostMapping(value = "/simulate/events", consumes = {"text/plain", "application/octet-stream"},
+                 produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> simulateEvents(InputStream body,
+                                                     @RequestParam(required = false) Integer quantum,
+                                                     @RequestParam(required = false) Integer aging,
+                                                     @RequestParam(required = false) Integer cores)
+            throws IOException {
+        return startEvents(parse(new WorkloadParser(), body), quantum, aging, cores);
+    }
+
+    /**
+     * Como /simulate/events, a partir de uma carga binária do diretório de cargas.
+     * Por ser um GET, pode ser consumido diretamente com EventSource no navegador.
+     */
+    @GetMapping(value = "/simulate/file/{name}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> simulateFileEvents(@PathVariable String name,
+                                                         @RequestParam(required = false) Integer quantum,
+                                                         @RequestParam(required = false) Integer aging,
+                                                         @RequestParam(required = false) Integer cores)
+            throws IOException {
+        return startEvents(workloadFileService.load(name), quantum, aging, cores);
+    }
 
-            if (processes.isEmpty()) {
+    private ResponseEntity<SseEmitter> startEvents(Workload workload, Integer quantum, Integer aging, Integer cores) {
+        if (workload.size() == 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            // Configuração desta requisição (valores ausentes vêm da configuração padrão)
+            Configuration config = configService.getConfiguration().with(quantum, aging, cores);
+            return ResponseEntity.ok(progressStreamService.start(workload, config));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+    }
+
+    /**
+     * Varre a grade de quantum × aging com os algoritmos Round-Robin, lendo a carga uma única vez.
+     * Cada faixa vai de "From" a "To" (inclusive) com passo "Step"; os núcleos vêm da
+     * configuração padrão, ou do parâmetro cores.
+     * Retorna as métricas de cada ponto e, separadamente, os pontos ótimos de Pareto.
+     */
+    @PostMapping(value = "/sweep", consumes = {"text/plain", "application/octet-stream"})
+    @ResponseBody
+    public Map<String, Object> sweep(InputStream body,
+                                     @RequestParam int quantumFrom, @RequestParam int quantumTo,
+                                     @RequestParam(defaultValue = "1") int quantumStep,
+                                     @RequestParam(defaultValue = "0") int agingFrom,
+                                     @RequestParam(defaultValue = "0") int agingTo,
+                                     @RequestParam(defaultValue = "1") int agingStep,
+                                     @RequestParam(required = false) Integer cores) {
+        try {
+            int[] quanta = range(quantumFrom, quantumTo, quantumStep, 1, "quantum");
+            int[] agingRates = range(agingFrom, agingTo, agingStep, 0, "aging");
+            Configuration config = configService.getConfiguration().with(null, null, cores);
+
+            WorkloadParser parser = new WorkloadParser();
+            Workload workload = parse(parser, body);
+            if (workload.size() == 0) {
                 Map<String, Object> error = new HashMap<>();
                 error.put("error", "Nenhum processo válido fornecido");
+                addMalformedLines(error, parser);
                 return error;
             }
 
-            // Executa todos os schedulers
-            Map<String, SchedulerResult> results = schedulerService.runAllSchedulers(processes);
+            List<SweepPoint> points = schedulerService.sweep(workload, config, quanta, agingRates);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("processCount", workload.size());
+            response.put("points", points);
+            response.put("pareto", points.stream().filter(SweepPoint::isParetoOptimal).toList());
+            addMalformedLines(response, parser);
+
+            return response;
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "Erro ao executar varredura: " + e.getMessage());
+            return error;
+        }
+    }
+
+    /**
+     * Valores de from a to (inclusive) com o passo informado.
+     * A quantidade é validada antes de alocar: nenhuma faixa pode passar do limite de pontos.
+     */
+    static int[] range(int from, int to, int step, int min, String name) {
+        if (from < min || to < from || step <= 0) {
+            throw new IllegalArgumentException("Faixa inválida para " + name + ": " + from + " a " + to
+                                               + " (passo " + step + ")");
+        }
+        long count = ((long) to - from) / step + 1;
+        if (count > SchedulerService.MAX_SWEEP_POINTS) {
+            throw new IllegalArgumentException("Faixa muito grande para " + name + " (máximo "
+                                               + SchedulerService.MAX_SWEEP_POINTS + " valores)");
+        }
+        int[] values = new int[(int) count];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = from + i * step;
+        }
+        return values;
+    }
+
+    /**
+     * Submete uma simulação assíncrona (entrada como em /simulate/upload).
+     * Responde imediatamente com o ID do job (202), ou 429 se a fila estiver cheia.
+     */
+    @PostMapping(value = "/jobs", consumes = {"text/plain", "application/octet-stream"})
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> submitJob(InputStream body,
+                                                         @RequestParam(required = false) Integer quantum,
+                                                         @RequestParam(required = false) Integer aging,
+                                                         @RequestParam(required = false) Integer cores) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            // Configuração desta requisição (valores ausentes vêm da configuração padrão)
+            Configuration config = configService.getConfiguration().with(quantum, aging, cores);
+
+            WorkloadParser parser = new WorkloadParser();
+            Workload workload = parse(parser, body);
+            if (workload.size() == 0) {
+                response.put("error", "Nenhum processo válido fornecido");
+                addMalformedLines(response, parser);
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            SimulationJob job = jobService.submit(workload, config);
+            response.put("jobId", job.getId());
+            response.put("status", job.getStatus());
+            response.put("processCount", workload.size());
+            addMalformedLines(response, parser);
+            return ResponseEntity.accepted().body(response);
+        } catch (RejectedExecutionException e) {
+            response.put("error", "Fila de simulações cheia, tente novamente mais tarde");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response);
+        } catch (Exception e) {
+            response.put("error", "Erro ao submeter simulação: " + e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    /**
+     * Consulta o estado de um job; os resultados são incluídos quando concluído
+     */
+    @GetMapping("/jobs/{id}")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getJob(@PathVariable String id) {
+        SimulationJob job = jobService.getJob(id);
+        if (job == null) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "Job não encontrado ou expirado: " + id);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("jobId", job.getId());
+        response.put("status", job.getStatus());
+        response.put("processCount", job.getProcessCount());
+        if (job.getStatus() == JobStatus.DONE) {
+            response.put("success", true);
+            response.put("results", job.getResults());
+        } else if (job.getStatus() == JobStatus.FAILED) {
+            response.put("error", job.getError());
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Diagrama de tempo de um algoritmo (FCFS, SJF, SRTF, PRIORITY, PRIORITY_PREEMPTIVE, ROUND_ROBIN
+     * ou ROUND_ROBIN_PRIORITY) de um job concluído, em texto, escrito à medida que é gerado.
+     * Apenas as fatias que se sobrepõem a [from, to) e as colunas dos processos com ID entre
+     * pidFrom e pidTo (por padrão, os primeiros MAX_DIAGRAM_COLUMNS a partir de pidFrom).
+     */
+    @GetMapping(value = "/jobs/{id}/diagram", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> getJobDiagram(@PathVariable String id,
+                                                               @RequestParam String algorithm,
+                                                               @RequestParam(defaultValue = "0") int from,
+                                                               @RequestParam(defaultValue = "2147483647") int to,
+                                                               @RequestParam(defaultValue = "1") int pidFrom,
+                                                               @RequestParam(required = false) Integer pidTo) {
+        JobResult found = findResult(id, algorithm);
+        if (found.error() != null) {
+            return textResponse(found.status(), found.error());
+        }
+        SchedulerResult result = found.result();
+        SimulationJob job = found.job();
+
+        int lastId = pidTo != null ? pidTo : (int) Math.min(job.getProcessCount(), pidFrom + MAX_DIAGRAM_COLUMNS - 1L);
+        if ((long) lastId - pidFrom + 1 > MAX_DIAGRAM_COLUMNS) {
+            return textResponse(HttpStatus.BAD_REQUEST,
+                                "Intervalo de processos muito grande (máximo " + MAX_DIAGRAM_COLUMNS + ")");
+        }
+
+        StreamingResponseBody stream = output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+            result.writeTimelineDiagram(writer, from, to, pidFrom, lastId);
+            writer.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.TEXT_PLAIN).body(stream);
+    }
+
+    /**
+     * Fatias do timeline de um algoritmo (como em /jobs/{id}/diagram) de um job concluído que se
+     * sobrepõem ao intervalo fechado [from, to], encontradas pelo índice do resultado (ver
+     * TimelineIndex) sem percorrer o timeline. Retorna no máximo limit fatias, na ordem do timeline.
+     */
+    @GetMapping("/jobs/{id}/timeline")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getJobTimeline(@PathVariable String id,
+                                                              @RequestParam String algorithm,
+                                                              @RequestParam int from,
+                                                              @RequestParam int to,
+                                                              @RequestParam(defaultValue = "10000") int limit) {
+        Map<String, Object> response = new HashMap<>();
+        JobResult found = findResult(id, algorithm);
+        if (found.error() != null) {
+            response.put("error", found.error());
+            return ResponseEntity.status(found.status()).body(response);
+        }
+        SchedulerResult result = found.result();
+        if (limit < 1 || limit > MAX_TIMELINE_SLICES) {
+            response.put("error", "limit deve estar entre 1 e " + MAX_TIMELINE_SLICES);
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        List<TimelineEntry> slices = slicesBetween(result.timelineIndex(), from, to);
+        response.put("algorithm", result.getAlgorithmName());
+        response.put("from", from);
+        response.put("to", to);
+        response.put("count", slices.size());
+        response.put("truncated", slices.size() > limit);
+        response.put("slices", slices.size() > limit ? slices.subList(0, limit) : slices);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Fatias que se sobrepõem ao intervalo fechado [from, to]: incluem as que começam em to.
+     * As fatias são [início, fim), então basta consultar o índice até to + 1.
+     */
+    static List<TimelineEntry> slicesBetween(TimelineIndex index, int from, int to) {
+        return index.overlapping(from, to == Integer.MAX_VALUE ? to : to + 1);
+    }
+
+    /**
+     * O que um processo fazia em um instante (NOT_ARRIVED, READY, RUNNING com núcleo e fatia,
+     * ou COMPLETED), em um algoritmo de um job concluído, consultando o índice do resultado
+     */
+    @GetMapping("/jobs/{id}/processes/{processId}")
+    @ResponseBody
+    public ResponseEntity<Object> getJobProcessActivity(@PathVariable String id,
+                                                        @PathVariable int processId,
+                                                        @RequestParam String algorithm,
+                                                        @RequestParam int time) {
+        Map<String, Object> response = new HashMap<>();
+        JobResult found = findResult(id, algorithm);
+        if (found.error() != null) {
+            response.put("error", found.error());
+            return ResponseEntity.status(found.status()).body(response);
+        }
+
+        ProcessActivity activity = found.result().timelineIndex().activityAt(processId, time);
+        if (activity == null) {
+            response.put("error", "Processo não encontrado: " + processId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+        return ResponseEntity.ok(activity);
+    }
+
+    /**
+     * Resultado de um algoritmo de um job, ou o erro e o status HTTP se não houver
+     */
+    private record JobResult(SimulationJob job, SchedulerResult result, HttpStatus status, String error) {
+    }
+
+    /**
+     * Busca o resultado de um algoritmo (pelo código) entre os resultados de um job concluído
+     */
+    private JobResult findResult(String id, String algorithm) {
+        SimulationJob job = jobService.getJob(id);
+        if (job == null) {
+            return new JobResult(null, null, HttpStatus.NOT_FOUND, "Job não encontrado ou expirado: " + id);
+        }
+        if (job.getStatus() != JobStatus.DONE) {
+            return new JobResult(job, null, HttpStatus.CONFLICT, "Job não concluído: " + job.getStatus());
+        }
+        Scheduler scheduler = SchedulerService.getScheduler(algorithm, job.getConfiguration());
+        SchedulerResult result = scheduler != null ? job.getResults().get(scheduler.getAlgorithmName()) : null;
+        if (result == null) {
+            return new JobResult(job, null, HttpStatus.BAD_REQUEST, "Algoritmo desconhecido: " + algorithm);
+        }
+        return new JobResult(job, result, HttpStatus.OK, null);
+    }
+
+    private static ResponseEntity<StreamingResponseBody> textResponse(HttpStatus status, String message) {
+        return ResponseEntity.status(status).contentType(MediaType.TEXT_PLAIN)
+            .body(output -> output.write(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Converte uma carga em texto (corpo da requisição) para o formato binário
+     * e a grava no diretório de cargas com o nome informado
+     */
+    @PostMapping(value = "/workloads/{name}", consumes = {"text/plain", "application/octet-stream"})
+    @ResponseBody
+    public Map<String, Object> saveWorkload(@PathVariable String name, InputStream body) {
+        try {
+            WorkloadParser parser = new WorkloadParser();
+            Workload workload = parse(parser, body);
+            workloadFileService.save(name, workload);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("name", name);
+            response.put("processCount", workload.size());
+            addMalformedLines(response, parser);
+
+            return response;
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "Erro ao gravar carga: " + e.getMessage());
+            return error;
+        }
+    }
+
+    /**
+     * Gera uma carga sintética (ver WorkloadSpec) e a grava no diretório de cargas,
+     * para uso em /simulate/file/{name} e /simulate/file/{name}/events
+     */
+    @PostMapping("/workloads/generated/{name}")
+    @ResponseBody
+    public Map<String, Object> generateWorkload(@PathVariable String name, @RequestBody WorkloadSpec spec) {
+        try {
+            Workload workload = WorkloadGenerator.generate(spec);
+            metrics.recordWorkload(workload);
+            workloadFileService.save(name, workload);
 
-            // Prepara resposta
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("results", results);
-            response.put("processCount", processes.size());
+            response.put("name", name);
+            response.put("processCount", workload.size());
 
             return response;
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "Erro ao gerar carga: " + e.getMessage());
+            return error;
+        }
+    }
+
+    /**
+     * Executa os algoritmos sobre uma carga binária do diretório de cargas
+     */
+    @PostMapping("/simulate/file/{name}")
+    @ResponseBody
+    public Map<String, Object> simulateFile(@PathVariable String name,
+                                            @RequestParam(required = false) Integer quantum,
+                                            @RequestParam(required = false) Integer aging,
+                                            @RequestParam(required = false) Integer cores) {
+        try {
+            // Configuração desta requisição (valores ausentes vêm da configuração padrão)
+            Configuration config = configService.getConfiguration().with(quantum, aging, cores);
+
+            return runSimulation(workloadFileService.load(name), config);
         } catch (Exception e) {
             Map<String, Object> error = new HashMap<>();
             error.put("error", "Erro ao executar simulação: " + e.getMessage());
@@ -74,6 +565,61 @@ public class SchedulerController {
         }
     }
 
+    /**
+     * Executa os algoritmos sobre a carga lida do texto, incluindo as linhas inválidas na resposta
+     */
+    private Map<String, Object> runSimulation(Workload workload, Configuration config, WorkloadParser parser) {
+        Map<String, Object> response = runSimulation(workload, config);
+        addMalformedLines(response, parser);
+        return response;
+    }
+
+    /**
+     * Executa todos os schedulers e monta a resposta
+     */
+    private Map<String, Object> runSimulation(Workload workload, Configuration config) {
+        if (workload.size() == 0) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "Nenhum processo válido fornecido");
+            return error;
+        }
+
+        // Executa todos os schedulers
+        Map<String, SchedulerResult> results = schedulerService.runAllSchedulers(workload, config);
+
+        // Prepara resposta
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("results", results);
+        response.put("processCount", workload.size());
+
+        return response;
+    }
+
+    /**
+     * Lê a entrada em texto, registrando o tempo de leitura e o tamanho da carga
+     */
+    private Workload parse(WorkloadParser parser, InputStream body) throws IOException {
+        Timer.Sample sample = metrics.start();
+        Workload workload = parser.parse(body);
+        metrics.recordParse(sample, "text", workload);
+        return workload;
+    }
+
+    private Workload parse(WorkloadParser parser, CharSequence input) {
+        Timer.Sample sample = metrics.start();
+        Workload workload = parser.parse(input);
+        metrics.recordParse(sample, "text", workload);
+        return workload;
+    }
+
+    private void addMalformedLines(Map<String, Object> response, WorkloadParser parser) {
+        if (parser.getMalformedCount() > 0) {
+            response.put("malformedCount", parser.getMalformedCount());
+            response.put("malformedLines", parser.getMalformedLines());
+        }
+    }
+
     /**
      * Atualiza a configuração
      */
@@ -81,12 +627,14 @@ public class SchedulerController {
     @ResponseBody
     public Map<String, Object> updateConfig(@RequestBody ConfigRequest request) {
         try {
-            configService.updateConfiguration(request.getQuantum(), request.getAging());
+            int cores = request.getCores() != null ? request.getCores() : configService.getConfiguration().getCores();
+            configService.updateConfiguration(request.getQuantum(), request.getAging(), cores);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("quantum", request.getQuantum());
             response.put("aging", request.getAging());
+            response.put("cores", cores);
 
             return response;
         } catch (Exception e) {
@@ -96,22 +644,43 @@ public class SchedulerController {
         }
     }
 
+    /**
+     * Estatísticas do cache de resultados
+     */
+    @GetMapping("/cache")
+    @ResponseBody
+    public Map<String, Object> cacheStats() {
+        ResultCache cache = schedulerService.getCache();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("hits", cache.getHits());
+        response.put("misses", cache.getMisses());
+        response.put("entries", cache.size());
+        response.put("weight", cache.weight());
+
+        return response;
+    }
+
     /**
      * Classe para receber requisição de simulação
      */
     public static class SimulationRequest {
         private String processInput;
-        private int quantum;
-        private int aging;
+        private Integer quantum;  // Opcional: vale apenas para esta simulação
+        private Integer aging;    // Opcional: vale apenas para esta simulação
+        private Integer cores;    // Opcional: vale apenas para esta simulação
 
         public String getProcessInput() { return processInput; }
         public void setProcessInput(String processInput) { this.processInput = processInput; }
 
-        public int getQuantum() { return quantum; }
-        public void setQuantum(int quantum) { this.quantum = quantum; }
+        public Integer getQuantum() { return quantum; }
+        public void setQuantum(Integer quantum) { this.quantum = quantum; }
 
-        public int getAging() { return aging; }
-        public void setAging(int aging) { this.aging = aging; }
+        public Integer getAging() { return aging; }
+        public void setAging(Integer aging) { this.aging = aging; }
+
+        public Integer getCores() { return cores; }
+        public void setCores(Integer cores) { this.cores = cores; }
     }
 
     /**
@@ -120,11 +689,15 @@ public class SchedulerController {
     public static class ConfigRequest {
         private int quantum;
         private int aging;
+        private Integer cores;  // Opcional: mantém o número atual de núcleos
 
         public int getQuantum() { return quantum; }
         public void setQuantum(int quantum) { this.quantum = quantum; }
 
         public int getAging() { return aging; }
         public void setAging(int aging) { this.aging = aging; }
+
+        public Integer getCores() { return cores; }
+        public void setCores(Integer cores) { this.cores = cores; }
     }
 }
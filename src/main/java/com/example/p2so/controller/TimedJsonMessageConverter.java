@@ -0,0 +1,37 @@
+package com.example.p2so.controller;
+
+import com.example.p2so.service.SimulationMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Conversor JSON das respostas que mede o tempo de serialização
+ * (p2so.result.serialize, format=json). Substitui o conversor JSON padrão do Spring Boot,
+ * usando o mesmo ObjectMapper.
+ */
+@Component
+public class TimedJsonMessageConverter extends MappingJackson2HttpMessageConverter {
+    private final SimulationMetrics metrics;
+
+    public TimedJsonMessageConverter(ObjectMapper objectMapper, SimulationMetrics metrics) {
+        super(objectMapper);
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        Timer.Sample sample = metrics.start();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            metrics.recordSerialize(sample, "json");
+        }
+    }
+}
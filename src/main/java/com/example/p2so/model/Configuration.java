@@ -2,31 +2,64 @@ package com.example.p2so.model;
 
 /**
  * Configurações do simulador de escalonamento.
- * Armazena valores de quantum e taxa de envelhecimento.
+ * Armazena valores de quantum, taxa de envelhecimento e número de núcleos.
+ * É imutável: cada requisição pode usar sua própria configuração sem afetar as demais.
  */
 public class Configuration {
-    private int quantum;     // Quantum para Round-Robin
-    private int agingRate;   // Taxa de envelhecimento para Round-Robin com prioridade
+    public static final int MAX_CORES = 1024;
+
+    private final int quantum;     // Quantum para Round-Robin
+    private final int agingRate;   // Taxa de envelhecimento para Round-Robin com prioridade
+    private final int cores;       // Núcleos simulados (1 = monoprocessador)
 
     public Configuration() {
-        this.quantum = 2;    // Valor padrão
-        this.agingRate = 1;  // Valor padrão
+        this(2, 1);  // Valores padrão
     }
 
     public Configuration(int quantum, int agingRate) {
+        this(quantum, agingRate, 1);
+    }
+
+    /**
+     * @throws IllegalArgumentException se quantum <= 0, agingRate < 0 ou cores fora de 1..MAX_CORES
+     */
+    public Configuration(int quantum, int agingRate, int cores) {
+        if (quantum <= 0) {
+            throw new IllegalArgumentException("Quantum deve ser maior que zero: " + quantum);
+        }
+        if (agingRate < 0) {
+            throw new IllegalArgumentException("Taxa de envelhecimento não pode ser negativa: " + agingRate);
+        }
+        if (cores < 1 || cores > MAX_CORES) {
+            throw new IllegalArgumentException("Número de núcleos deve estar entre 1 e " + MAX_CORES + ": " + cores);
+        }
         this.quantum = quantum;
         this.agingRate = agingRate;
+        this.cores = cores;
+    }
+
+    /**
+     * Cria uma configuração a partir desta, substituindo os valores informados (null mantém o atual)
+     */
+    public Configuration with(Integer quantum, Integer agingRate) {
+        return with(quantum, agingRate, null);
+    }
+
+    public Configuration with(Integer quantum, Integer agingRate, Integer cores) {
+        return new Configuration(quantum != null ? quantum : this.quantum,
+                                 agingRate != null ? agingRate : this.agingRate,
+                                 cores != null ? cores : this.cores);
     }
 
-    // Getters e Setters
+    // Getters
     public int getQuantum() { return quantum; }
-    public void setQuantum(int quantum) { this.quantum = quantum; }
 
     public int getAgingRate() { return agingRate; }
-    public void setAgingRate(int agingRate) { this.agingRate = agingRate; }
+
+    public int getCores() { return cores; }
 
     @Override
     public String toString() {
-        return String.format("Configuration[quantum=%d, aging=%d]", quantum, agingRate);
+        return String.format("Configuration[quantum=%d, aging=%d, cores=%d]", quantum, agingRate, cores);
     }
 }
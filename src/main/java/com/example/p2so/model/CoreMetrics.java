@@ -0,0 +1,31 @@
+package com.example.p2so.model;
+
+/**
+ * Métricas de um núcleo após a execução (imutável)
+ */
+public class CoreMetrics {
+    private final int core;
+    private final long busyTime;          // Tempo executando processos
+    private final double utilization;     // busyTime / tempo total da simulação
+    private final int contextSwitches;
+    private final int migrations;         // Processos roubados de outros núcleos
+
+    public CoreMetrics(int core, long busyTime, double utilization, int contextSwitches, int migrations) {
+        this.core = core;
+        this.busyTime = busyTime;
+        this.utilization = utilization;
+        this.contextSwitches = contextSwitches;
+        this.migrations = migrations;
+    }
+
+    // Getters
+    public int getCore() { return core; }
+
+    public long getBusyTime() { return busyTime; }
+
+    public double getUtilization() { return utilization; }
+
+    public int getContextSwitches() { return contextSwitches; }
+
+    public int getMigrations() { return migrations; }
+}
@@ -0,0 +1,11 @@
+package com.example.p2so.model;
+
+/**
+ * Enumera os possíveis estados de um job de simulação assíncrono
+ */
+public enum JobStatus {
+    QUEUED,     // Aguardando na fila
+    RUNNING,    // Executando
+    DONE,       // Concluído com sucesso
+    FAILED      // Concluído com erro
+}
@@ -0,0 +1,28 @@
+package com.example.p2so.model;
+
+/**
+ * Percentis de uma métrica por processo (espera, vida ou resposta), calculados
+ * a partir de um histograma logarítmico: erro relativo inferior a ~3% (imutável)
+ */
+public class Percentiles {
+    private final int p50;
+    private final int p90;
+    private final int p99;
+    private final int max;
+
+    public Percentiles(int p50, int p90, int p99, int max) {
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.max = max;
+    }
+
+    // Getters
+    public int getP50() { return p50; }
+
+    public int getP90() { return p90; }
+
+    public int getP99() { return p99; }
+
+    public int getMax() { return max; }
+}
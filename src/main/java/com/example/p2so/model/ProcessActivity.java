@@ -0,0 +1,36 @@
+package com.example.p2so.model;
+
+/**
+ * O que um processo fazia em um instante da simulação (imutável).
+ * Quando executando, traz o núcleo e a fatia do timeline em que executava.
+ */
+public class ProcessActivity {
+    private final int processId;
+    private final int time;
+    private final ProcessState state;
+    private final int core;        // Núcleo em execução (-1 se não estava executando)
+    private final int sliceStart;  // Início da fatia em execução (-1 se não estava executando)
+    private final int sliceEnd;    // Fim da fatia em execução (-1 se não estava executando)
+
+    public ProcessActivity(int processId, int time, ProcessState state, int core, int sliceStart, int sliceEnd) {
+        this.processId = processId;
+        this.time = time;
+        this.state = state;
+        this.core = core;
+        this.sliceStart = sliceStart;
+        this.sliceEnd = sliceEnd;
+    }
+
+    // Getters
+    public int getProcessId() { return processId; }
+
+    public int getTime() { return time; }
+
+    public ProcessState getState() { return state; }
+
+    public int getCore() { return core; }
+
+    public int getSliceStart() { return sliceStart; }
+
+    public int getSliceEnd() { return sliceEnd; }
+}
@@ -0,0 +1,11 @@
+package com.example.p2so.model;
+
+/**
+ * Enumera os possíveis estados de um processo em um instante da simulação
+ */
+public enum ProcessState {
+    NOT_ARRIVED,  // Ainda não chegou
+    READY,        // Chegou e espera pela CPU
+    RUNNING,      // Executando em algum núcleo
+    COMPLETED     // Concluído
+}
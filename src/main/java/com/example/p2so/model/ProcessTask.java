@@ -70,6 +70,18 @@ public class ProcessTask {
         status = ProcessStatus.RUNNING;
     }
 
+    /**
+     * Executa o processo por várias unidades de tempo de uma só vez
+     * @param timeUnits Quantidade de unidades de tempo a executar
+     */
+    public void execute(int timeUnits) {
+        if (!hasStarted) {
+            hasStarted = true;
+        }
+        remainingTime -= timeUnits;
+        status = ProcessStatus.RUNNING;
+    }
+
     /**
      * Verifica se o processo está completo
      * @return true se o processo terminou de executar
@@ -0,0 +1,137 @@
+package com.example.p2so.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Intervalos em que cada processo esteve no sistema: da chegada até a conclusão.
+ * É compartilhado por todas as entradas de um timeline; o estado de espera de cada
+ * entrada é derivado sob demanda, em vez de armazenar um mapa por entrada.
+ */
+public class ReadyIntervals {
+    private final Workload workload;        // IDs e chegadas, em ordem de chegada
+    private final int[] completionTimes;    // Instante de conclusão de cada processo
+    private volatile int[] latestCompletion; // Árvore de segmentos: maior conclusão de cada faixa (criada sob demanda)
+
+    public ReadyIntervals(Workload workload, int[] completionTimes) {
+        this.workload = workload;
+        this.completionTimes = completionTimes;
+    }
+
+    public int size() { return workload.size(); }
+
+    public int getId(int process) { return workload.getId(process); }
+
+    public int getArrivalTime(int process) { return workload.getArrivalTime(process); }
+
+    public int getCompletionTime(int process) { return completionTimes[process]; }
+
+    /**
+     * Quantidade de inteiros guardados além da carga: as conclusões e, depois da primeira
+     * consulta de estados, a árvore de segmentos (peso no cache de resultados)
+     */
+    public long weight() {
+        int[] tree = latestCompletion;
+        return (long) completionTimes.length + (tree != null ? tree.length : 0);
+    }
+
+    /**
+     * Estados dos processos que esperavam durante o intervalo [startTime, endTime).
+     * Os processos que chegaram antes do fim do intervalo são um prefixo da ordem de chegada;
+     * nesse prefixo, a árvore da maior conclusão descarta de uma vez as faixas já concluídas,
+     * então cada intervalo visita apenas os processos ainda no sistema (O((k + 1) log n)).
+     * @param runningId ID do processo executando no intervalo (não é incluído)
+     * @return Mapa ID do processo -> "--" para cada processo em espera
+     */
+    public Map<Integer, String> statesDuring(int startTime, int endTime, int runningId) {
+        Map<Integer, String> states = new HashMap<>();
+        int arrived = arrivedBefore(endTime);
+        if (arrived > 0) {
+            collectLive(latestCompletion(), 1, 0, leaves(), arrived, startTime, runningId, states);
+        }
+        return states;
+    }
+
+    /**
+     * Número de processos que chegaram antes do instante (busca binária na ordem de chegada)
+     */
+    private int arrivedBefore(int time) {
+        int low = 0;
+        int high = workload.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (workload.getArrivalTime(mid) < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Percorre o nó que cobre os processos [from, to), restritos aos limit primeiros,
+     * descendo apenas nas faixas com alguma conclusão depois de startTime
+     */
+    private void collectLive(int[] tree, int node, int from, int to, int limit, int startTime, int runningId,
+                             Map<Integer, String> states) {
+        if (from >= limit || tree[node] <= startTime) {
+            return;
+        }
+        if (to - from == 1) {
+            if (workload.getId(from) != runningId) {
+                states.put(workload.getId(from), "--");
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        collectLive(tree, 2 * node, from, mid, limit, startTime, runningId, states);
+        collectLive(tree, 2 * node + 1, mid, to, limit, startTime, runningId, states);
+    }
+
+    /**
+     * Menor potência de 2 que comporta todos os processos (folhas da árvore)
+     */
+    private int leaves() {
+        return Integer.highestOneBit(Math.max(1, workload.size() - 1)) << 1;
+    }
+
+    /**
+     * Árvore de segmentos sobre a ordem de chegada com a maior conclusão de cada faixa,
+     * criada na primeira consulta e compartilhada por todas as entradas do timeline
+     */
+    private int[] latestCompletion() {
+        int[] tree = latestCompletion;
+        if (tree == null) {
+            synchronized (this) {
+                tree = latestCompletion;
+                if (tree == null) {
+                    int leaves = leaves();
+                    tree = new int[2 * leaves];
+                    Arrays.fill(tree, Integer.MIN_VALUE);
+                    System.arraycopy(completionTimes, 0, tree, leaves, completionTimes.length);
+                    for (int node = leaves - 1; node > 0; node--) {
+                        tree[node] = Math.max(tree[2 * node], tree[2 * node + 1]);
+                    }
+                    latestCompletion = tree;
+                }
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * Preenche a chegada e a conclusão dos processos com ID entre fromId e fromId + length - 1,
+     * indexadas por ID - fromId; posições sem processo não são alteradas
+     */
+    public void fillColumns(int fromId, int[] arrivalTimes, int[] completionTimes) {
+        for (int p = 0; p < workload.size(); p++) {
+            int column = workload.getId(p) - fromId;
+            if (column >= 0 && column < arrivalTimes.length) {
+                arrivalTimes[column] = workload.getArrivalTime(p);
+                completionTimes[column] = this.completionTimes[p];
+            }
+        }
+    }
+}
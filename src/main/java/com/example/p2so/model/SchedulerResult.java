@@ -1,61 +1,112 @@
 package com.example.p2so.model;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Representa o resultado da execução de um algoritmo de escalonamento.
  * Contém todas as métricas e informações sobre a execução.
+ * É imutável (inclusive o timeline e o mapa de métricas), podendo ser mantido em cache
+ * e entregue a vários chamadores.
  */
 public class SchedulerResult {
-    private String algorithmName;           // Nome do algoritmo executado
-    private double averageTurnaroundTime;   // Tempo médio de vida (tt)
-    private double averageWaitingTime;      // Tempo médio de espera (tw)
-    private int contextSwitches;            // Número de trocas de contexto
-    private List<TimelineEntry> timeline;   // Diagrama de tempo da execução
-    private Map<Integer, ProcessMetrics> processMetrics; // Métricas individuais de cada processo
+    private final String algorithmName;           // Nome do algoritmo executado
+    private final double averageTurnaroundTime;   // Tempo médio de vida (tt)
+    private final double averageWaitingTime;      // Tempo médio de espera (tw)
+    private final int contextSwitches;            // Número de trocas de contexto
+    private final Percentiles waitingTimePercentiles;     // Percentis do tempo de espera
+    private final Percentiles turnaroundTimePercentiles;  // Percentis do tempo de vida
+    private final Percentiles responseTimePercentiles;    // Percentis do tempo de resposta
+    private final List<CoreMetrics> coreMetrics;  // Utilização e migrações de cada núcleo
+    private final List<TimelineEntry> timeline;   // Diagrama de tempo da execução
+    private final Map<Integer, ProcessMetrics> processMetrics; // Métricas individuais (vazio em cargas muito grandes)
+    private final ReadyIntervals lifetimes;       // Chegada e conclusão de cada processo, para o índice
+    private volatile TimelineIndex timelineIndex; // Criado na primeira consulta
 
     /**
-     * Construtor completo
+     * Construtor completo. As coleções passam a pertencer ao resultado
+     * e são expostas apenas para leitura.
      */
     public SchedulerResult(String algorithmName, double averageTurnaroundTime,
                           double averageWaitingTime, int contextSwitches,
-                          List<TimelineEntry> timeline, Map<Integer, ProcessMetrics> processMetrics) {
+                          Percentiles waitingTimePercentiles, Percentiles turnaroundTimePercentiles,
+                          Percentiles responseTimePercentiles, List<CoreMetrics> coreMetrics,
+                          List<TimelineEntry> timeline, Map<Integer, ProcessMetrics> processMetrics,
+                          ReadyIntervals lifetimes) {
         this.algorithmName = algorithmName;
         this.averageTurnaroundTime = averageTurnaroundTime;
         this.averageWaitingTime = averageWaitingTime;
         this.contextSwitches = contextSwitches;
-        this.timeline = timeline;
-        this.processMetrics = processMetrics;
+        this.waitingTimePercentiles = waitingTimePercentiles;
+        this.turnaroundTimePercentiles = turnaroundTimePercentiles;
+        this.responseTimePercentiles = responseTimePercentiles;
+        this.coreMetrics = Collections.unmodifiableList(coreMetrics);
+        this.timeline = Collections.unmodifiableList(timeline);
+        this.processMetrics = Collections.unmodifiableMap(processMetrics);
+        this.lifetimes = lifetimes;
     }
 
-    // Getters e Setters
+    // Getters
     public String getAlgorithmName() { return algorithmName; }
-    public void setAlgorithmName(String algorithmName) { this.algorithmName = algorithmName; }
 
     public double getAverageTurnaroundTime() { return averageTurnaroundTime; }
-    public void setAverageTurnaroundTime(double averageTurnaroundTime) {
-        this.averageTurnaroundTime = averageTurnaroundTime;
-    }
 
     public double getAverageWaitingTime() { return averageWaitingTime; }
-    public void setAverageWaitingTime(double averageWaitingTime) {
-        this.averageWaitingTime = averageWaitingTime;
-    }
 
     public int getContextSwitches() { return contextSwitches; }
-    public void setContextSwitches(int contextSwitches) {
-        this.contextSwitches = contextSwitches;
+
+    public Percentiles getWaitingTimePercentiles() { return waitingTimePercentiles; }
+
+    public Percentiles getTurnaroundTimePercentiles() { return turnaroundTimePercentiles; }
+
+    public Percentiles getResponseTimePercentiles() { return responseTimePercentiles; }
+
+    public List<CoreMetrics> getCoreMetrics() { return coreMetrics; }
+
+    /**
+     * Total de processos migrados entre núcleos
+     */
+    public int getMigrations() {
+        return coreMetrics.stream().mapToInt(CoreMetrics::getMigrations).sum();
     }
 
     public List<TimelineEntry> getTimeline() { return timeline; }
-    public void setTimeline(List<TimelineEntry> timeline) {
-        this.timeline = timeline;
-    }
 
     public Map<Integer, ProcessMetrics> getProcessMetrics() { return processMetrics; }
-    public void setProcessMetrics(Map<Integer, ProcessMetrics> processMetrics) {
-        this.processMetrics = processMetrics;
+
+    /**
+     * Índice do timeline para consultas por janela de tempo e por processo (ver TimelineIndex),
+     * criado na primeira chamada. Não é um getter, para não ser serializado com o resultado.
+     */
+    public TimelineIndex timelineIndex() {
+        TimelineIndex index = timelineIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = timelineIndex;
+                if (index == null) {
+                    index = new TimelineIndex(timeline, lifetimes);
+                    timelineIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Peso do resultado no cache: fatias do timeline, métricas por processo, intervalos de
+     * chegada e conclusão e as estruturas criadas sob demanda (índice do timeline e árvore de
+     * estados de espera), que podem crescer depois de o resultado entrar no cache
+     */
+    public long weight() {
+        TimelineIndex index = timelineIndex;
+        return (long) timeline.size() + processMetrics.size() + lifetimes.weight()
+               + (index != null ? index.weight() : 0);
     }
 
     /**
@@ -67,36 +118,93 @@ public class SchedulerResult {
             return "Nenhuma execução registrada";
         }
 
-        StringBuilder sb = new StringBuilder();
-
-        // Cabeçalho
-        sb.append(String.format("%-8s", "tempo"));
         int maxProcessId = timeline.stream()
             .mapToInt(TimelineEntry::getProcessId)
             .max()
             .orElse(0);
 
-        for (int i = 1; i <= maxProcessId; i++) {
-            sb.append(String.format(" P%-3d", i));
+        StringWriter out = new StringWriter();
+        try {
+            writeTimelineDiagram(out, 0, Integer.MAX_VALUE, 1, maxProcessId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);  // StringWriter não lança
+        }
+        return out.toString();
+    }
+
+    /**
+     * Escreve o diagrama de tempo diretamente no destino, linha a linha, sem montá-lo em memória.
+     * Apenas as fatias que se sobrepõem ao intervalo [fromTime, toTime) e as colunas dos
+     * processos com ID entre fromId e toId são escritas; o custo de cada linha depende
+     * apenas do número de colunas, e as fatias da janela são encontradas pelo índice.
+     * Com vários núcleos, cada linha traz o núcleo da fatia após o tempo.
+     */
+    public void writeTimelineDiagram(Writer out, int fromTime, int toTime, int fromId, int toId)
+            throws IOException {
+        int columns = Math.max(0, toId - fromId + 1);
+        boolean multicore = coreMetrics.size() > 1;
+
+        // Chegada e conclusão dos processos das colunas, para derivar os estados de espera
+        int[] arrivals = new int[columns];
+        int[] completions = new int[columns];
+        Arrays.fill(arrivals, Integer.MAX_VALUE);
+        ReadyIntervals readyIntervals = timeline.isEmpty() ? null : timeline.get(0).getReadyIntervals();
+        if (readyIntervals != null) {
+            readyIntervals.fillColumns(fromId, arrivals, completions);
         }
-        sb.append("\n");
 
-        // Linhas do timeline
-        for (TimelineEntry entry : timeline) {
-            sb.append(String.format("%2d-%2d   ", entry.getStartTime(), entry.getEndTime()));
+        // Cabeçalho
+        pad(out, "tempo", 8, false);
+        if (multicore) {
+            pad(out, "núcleo", 7, false);
+        }
+        for (int i = 0; i < columns; i++) {
+            out.write(" P");
+            pad(out, Integer.toString(fromId + i), 3, false);
+        }
+        out.write('\n');
+
+        // Linhas do timeline (com uma janela de tempo, apenas as fatias encontradas pelo índice)
+        List<TimelineEntry> entries = fromTime <= 0 && toTime == Integer.MAX_VALUE
+            ? timeline
+            : timelineIndex().overlapping(fromTime, toTime);
+        for (TimelineEntry entry : entries) {
+            int start = entry.getStartTime();
+            int end = entry.getEndTime();
+
+            pad(out, Integer.toString(start), 2, true);
+            out.write('-');
+            pad(out, Integer.toString(end), 2, true);
+            out.write("   ");
+            if (multicore) {
+                pad(out, "C" + entry.getCore(), 7, false);
+            }
 
-            for (int i = 1; i <= maxProcessId; i++) {
-                if (i == entry.getProcessId()) {
-                    sb.append(" ##  ");
-                } else if (entry.getProcessStates().containsKey(i)) {
-                    sb.append(" --  ");
+            for (int i = 0; i < columns; i++) {
+                if (fromId + i == entry.getProcessId()) {
+                    out.write(" ##  ");
+                } else if (arrivals[i] < end && completions[i] > start) {
+                    out.write(" --  ");
                 } else {
-                    sb.append("     ");
+                    out.write("     ");
                 }
             }
-            sb.append("\n");
+            out.write('\n');
         }
+    }
 
-        return sb.toString();
+    /**
+     * Escreve o texto completando com espaços até a largura (à esquerda ou à direita)
+     */
+    private static void pad(Writer out, String text, int width, boolean left) throws IOException {
+        if (!left) {
+            out.write(text);
+        }
+        for (int i = text.length(); i < width; i++) {
+            out.write(' ');
+        }
+        if (left) {
+            out.write(text);
+        }
     }
 }
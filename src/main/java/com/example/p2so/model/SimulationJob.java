@@ -0,0 +1,72 @@
+package com.example.p2so.model;
+
+import java.util.Map;
+
+/**
+ * Job de simulação assíncrono: executa todos os algoritmos sobre uma carga
+ * e guarda os resultados até expirar.
+ * Os campos mutáveis são escritos pela thread do job e lidos pelas requisições de consulta.
+ */
+public class SimulationJob {
+    private final String id;
+    private final int processCount;
+    private final Configuration configuration;              // Configuração da simulação
+    private final long submittedAt;                          // Instante de submissão (ms)
+    private volatile JobStatus status = JobStatus.QUEUED;
+    private volatile Map<String, SchedulerResult> results;   // Preenchido quando DONE
+    private volatile String error;                           // Preenchido quando FAILED
+    private volatile long finishedAt;                        // Instante de conclusão (ms), 0 se não terminou
+
+    public SimulationJob(String id, int processCount, Configuration configuration, long submittedAt) {
+        this.id = id;
+        this.processCount = processCount;
+        this.configuration = configuration;
+        this.submittedAt = submittedAt;
+    }
+
+    /**
+     * Marca o job como em execução
+     */
+    public void start() {
+        status = JobStatus.RUNNING;
+    }
+
+    /**
+     * Conclui o job com os resultados
+     */
+    public void complete(Map<String, SchedulerResult> results, long finishedAt) {
+        this.results = results;
+        this.finishedAt = finishedAt;
+        this.status = JobStatus.DONE;
+    }
+
+    /**
+     * Conclui o job com erro
+     */
+    public void fail(String error, long finishedAt) {
+        this.error = error;
+        this.finishedAt = finishedAt;
+        this.status = JobStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == JobStatus.DONE || status == JobStatus.FAILED;
+    }
+
+    // Getters
+    public String getId() { return id; }
+
+    public int getProcessCount() { return processCount; }
+
+    public Configuration getConfiguration() { return configuration; }
+
+    public long getSubmittedAt() { return submittedAt; }
+
+    public JobStatus getStatus() { return status; }
+
+    public Map<String, SchedulerResult> getResults() { return results; }
+
+    public String getError() { return error; }
+
+    public long getFinishedAt() { return finishedAt; }
+}
@@ -0,0 +1,40 @@
+package com.example.p2so.model;
+
+/**
+ * Resultado resumido de um ponto da varredura de parâmetros (quantum × aging)
+ */
+public class SweepPoint {
+    private final String algorithm;               // ROUND_ROBIN ou ROUND_ROBIN_PRIORITY
+    private final int quantum;
+    private final Integer agingRate;              // null no Round-Robin, que não usa envelhecimento
+    private final double averageTurnaroundTime;
+    private final double averageWaitingTime;
+    private final int contextSwitches;
+    private final boolean paretoOptimal;          // Nenhum outro ponto é melhor ou igual em todas as métricas
+
+    public SweepPoint(String algorithm, int quantum, Integer agingRate, double averageTurnaroundTime,
+                      double averageWaitingTime, int contextSwitches, boolean paretoOptimal) {
+        this.algorithm = algorithm;
+        this.quantum = quantum;
+        this.agingRate = agingRate;
+        this.averageTurnaroundTime = averageTurnaroundTime;
+        this.averageWaitingTime = averageWaitingTime;
+        this.contextSwitches = contextSwitches;
+        this.paretoOptimal = paretoOptimal;
+    }
+
+    // Getters
+    public String getAlgorithm() { return algorithm; }
+
+    public int getQuantum() { return quantum; }
+
+    public Integer getAgingRate() { return agingRate; }
+
+    public double getAverageTurnaroundTime() { return averageTurnaroundTime; }
+
+    public double getAverageWaitingTime() { return averageWaitingTime; }
+
+    public int getContextSwitches() { return contextSwitches; }
+
+    public boolean isParetoOptimal() { return paretoOptimal; }
+}
@@ -1,39 +1,65 @@
 package com.example.p2so.model;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Representa uma entrada no diagrama de tempo da execução.
  * Cada entrada corresponde a um intervalo de tempo onde um processo específico estava executando.
+ * É imutável, podendo ser compartilhada entre resultados em cache.
  */
 public class TimelineEntry {
-    private int startTime;                      // Tempo de início do intervalo
-    private int endTime;                        // Tempo de fim do intervalo
-    private int processId;                      // ID do processo executando (0 se CPU ociosa)
-    private Map<Integer, String> processStates; // Estado de todos os processos neste momento
+    private final int startTime;                    // Tempo de início do intervalo
+    private final int endTime;                      // Tempo de fim do intervalo
+    private final int processId;                    // ID do processo executando (0 se CPU ociosa)
+    private final int core;                         // Núcleo em que o processo executou
+    private final ReadyIntervals readyIntervals;    // Intervalos compartilhados para derivar os estados
+
+    /**
+     * Construtor de uma entrada sem estados de espera
+     */
+    public TimelineEntry(int startTime, int endTime, int processId) {
+        this(startTime, endTime, processId, 0, null);
+    }
+
+    public TimelineEntry(int startTime, int endTime, int processId, ReadyIntervals readyIntervals) {
+        this(startTime, endTime, processId, 0, readyIntervals);
+    }
 
     /**
      * Construtor completo
+     * @param readyIntervals Intervalos para derivar os estados de espera (null se não houver)
      */
-    public TimelineEntry(int startTime, int endTime, int processId, Map<Integer, String> processStates) {
+    public TimelineEntry(int startTime, int endTime, int processId, int core, ReadyIntervals readyIntervals) {
         this.startTime = startTime;
         this.endTime = endTime;
         this.processId = processId;
-        this.processStates = processStates;
+        this.core = core;
+        this.readyIntervals = readyIntervals;
     }
 
-    // Getters e Setters
+    // Getters
     public int getStartTime() { return startTime; }
-    public void setStartTime(int startTime) { this.startTime = startTime; }
 
     public int getEndTime() { return endTime; }
-    public void setEndTime(int endTime) { this.endTime = endTime; }
 
     public int getProcessId() { return processId; }
-    public void setProcessId(int processId) { this.processId = processId; }
 
-    public Map<Integer, String> getProcessStates() { return processStates; }
-    public void setProcessStates(Map<Integer, String> processStates) {
-        this.processStates = processStates;
+    public int getCore() { return core; }
+
+    /**
+     * Intervalos compartilhados pelas entradas do timeline (null se não houver estados de espera)
+     */
+    ReadyIntervals getReadyIntervals() { return readyIntervals; }
+
+    /**
+     * Estado dos processos que esperavam neste intervalo ("--" para cada processo pronto).
+     * Derivado sob demanda a partir dos intervalos de chegada/conclusão do resultado.
+     */
+    public Map<Integer, String> getProcessStates() {
+        if (readyIntervals == null) {
+            return new HashMap<>();
+        }
+        return readyIntervals.statesDuring(startTime, endTime, processId);
     }
 }
@@ -0,0 +1,223 @@
+package com.example.p2so.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Índice de um timeline concluído, para consultar uma janela de tempo ou um processo
+ * sem percorrer o timeline inteiro.
+ *
+ * As fatias de um mesmo núcleo não se sobrepõem, então, ordenadas pelo início, também ficam
+ * ordenadas pelo fim: uma busca binária por núcleo encontra a primeira fatia que termina
+ * depois do início da janela, e as seguintes são lidas até a primeira que começa depois do
+ * fim. As fatias de cada processo também ficam agrupadas e ordenadas pelo início, junto com
+ * a chegada e a conclusão de cada processo, ordenadas pelo ID.
+ *
+ * Construído uma única vez por resultado; é imutável e pode ser consultado em paralelo.
+ */
+public class TimelineIndex {
+    private final List<TimelineEntry> timeline;
+    private final int[] coreOffsets;      // Fatias do núcleo c em byCore[coreOffsets[c], coreOffsets[c + 1])
+    private final int[] byCore;           // Posições no timeline agrupadas por núcleo, ordenadas pelo início
+    private final int[] ids;              // IDs dos processos, em ordem crescente
+    private final int[] arrivalTimes;     // Chegada de cada processo de ids
+    private final int[] completionTimes;  // Conclusão de cada processo de ids
+    private final int[] processOffsets;   // Fatias de ids[i] em byProcess[processOffsets[i], processOffsets[i + 1])
+    private final int[] byProcess;        // Posições no timeline agrupadas por processo, ordenadas pelo início
+
+    /**
+     * @param lifetimes Chegada e conclusão de cada processo (ver ReadyIntervals)
+     */
+    public TimelineIndex(List<TimelineEntry> timeline, ReadyIntervals lifetimes) {
+        this.timeline = timeline;
+        int size = timeline.size();
+
+        // Processos ordenados pelo ID (ID nos 32 bits altos, posição na carga nos baixos)
+        int processes = lifetimes.size();
+        long[] packed = new long[processes];
+        for (int p = 0; p < processes; p++) {
+            packed[p] = (long) lifetimes.getId(p) << 32 | p;
+        }
+        Arrays.sort(packed);
+        this.ids = new int[processes];
+        this.arrivalTimes = new int[processes];
+        this.completionTimes = new int[processes];
+        for (int i = 0; i < processes; i++) {
+            int p = (int) packed[i];
+            ids[i] = (int) (packed[i] >>> 32);
+            arrivalTimes[i] = lifetimes.getArrivalTime(p);
+            completionTimes[i] = lifetimes.getCompletionTime(p);
+        }
+
+        // Agrupa as fatias por núcleo e por processo (contagem, prefixos e preenchimento)
+        int cores = 1;
+        for (TimelineEntry entry : timeline) {
+            cores = Math.max(cores, entry.getCore() + 1);
+        }
+        int[] groupOfProcess = new int[size];
+        this.coreOffsets = new int[cores + 1];
+        this.processOffsets = new int[processes + 1];
+        for (int i = 0; i < size; i++) {
+            TimelineEntry entry = timeline.get(i);
+            coreOffsets[entry.getCore() + 1]++;
+            groupOfProcess[i] = entry.getProcessId() != 0 ? Arrays.binarySearch(ids, entry.getProcessId()) : -1;
+            if (groupOfProcess[i] >= 0) {
+                processOffsets[groupOfProcess[i] + 1]++;
+            }
+        }
+        for (int c = 0; c < cores; c++) {
+            coreOffsets[c + 1] += coreOffsets[c];
+        }
+        for (int g = 0; g < processes; g++) {
+            processOffsets[g + 1] += processOffsets[g];
+        }
+
+        this.byCore = new int[size];
+        this.byProcess = new int[processOffsets[processes]];
+        int[] coreNext = Arrays.copyOf(coreOffsets, cores);
+        int[] processNext = Arrays.copyOf(processOffsets, processes);
+        for (int i = 0; i < size; i++) {
+            byCore[coreNext[timeline.get(i).getCore()]++] = i;
+            if (groupOfProcess[i] >= 0) {
+                byProcess[processNext[groupOfProcess[i]]++] = i;
+            }
+        }
+
+        // Cada núcleo e cada processo emitem suas fatias em ordem, exceto quando uma fatia fica
+        // aberta enquanto outras fecham (vários núcleos); só nesses grupos é preciso ordenar
+        for (int c = 0; c < cores; c++) {
+            sortByStart(byCore, coreOffsets[c], coreOffsets[c + 1]);
+        }
+        for (int g = 0; g < processes; g++) {
+            sortByStart(byProcess, processOffsets[g], processOffsets[g + 1]);
+        }
+    }
+
+    /**
+     * Fatias que se sobrepõem ao intervalo [fromTime, toTime), na ordem do timeline.
+     * Custo O(núcleos × log n + k), onde k é o número de fatias retornadas.
+     */
+    public List<TimelineEntry> overlapping(int fromTime, int toTime) {
+        int[] positions = new int[16];
+        int count = 0;
+        for (int c = 0; c + 1 < coreOffsets.length; c++) {
+            int end = coreOffsets[c + 1];
+            for (int i = firstEndingAfter(coreOffsets[c], end, fromTime); i < end; i++) {
+                TimelineEntry entry = timeline.get(byCore[i]);
+                if (entry.getStartTime() >= toTime) {
+                    break;
+                }
+                if (count == positions.length) {
+                    positions = Arrays.copyOf(positions, count * 2);
+                }
+                positions[count++] = byCore[i];
+            }
+        }
+        Arrays.sort(positions, 0, count);
+        return view(positions, count);
+    }
+
+    /**
+     * O que o processo fazia no instante informado, em O(log n)
+     * @return Atividade do processo, ou null se não houver processo com o ID
+     */
+    public ProcessActivity activityAt(int processId, int time) {
+        int group = Arrays.binarySearch(ids, processId);
+        if (group < 0) {
+            return null;
+        }
+        if (time < arrivalTimes[group]) {
+            return new ProcessActivity(processId, time, ProcessState.NOT_ARRIVED, -1, -1, -1);
+        }
+        if (time >= completionTimes[group]) {
+            return new ProcessActivity(processId, time, ProcessState.COMPLETED, -1, -1, -1);
+        }
+
+        // Última fatia do processo que começa até o instante
+        int low = processOffsets[group];
+        int high = processOffsets[group + 1] - 1;
+        int last = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (timeline.get(byProcess[mid]).getStartTime() <= time) {
+                last = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (last >= 0) {
+            TimelineEntry entry = timeline.get(byProcess[last]);
+            if (entry.getEndTime() > time) {
+                return new ProcessActivity(processId, time, ProcessState.RUNNING, entry.getCore(),
+                                           entry.getStartTime(), entry.getEndTime());
+            }
+        }
+        return new ProcessActivity(processId, time, ProcessState.READY, -1, -1, -1);
+    }
+
+    /**
+     * Quantidade de inteiros guardados pelo índice (peso no cache de resultados)
+     */
+    public long weight() {
+        return (long) byCore.length + byProcess.length + coreOffsets.length + processOffsets.length
+               + 3L * ids.length;
+    }
+
+    /**
+     * Primeira posição em byCore[from, to) cuja fatia termina depois do instante
+     */
+    private int firstEndingAfter(int from, int to, int time) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timeline.get(byCore[mid]).getEndTime() > time) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Ordena as posições de positions[from, to) pelo início da fatia (e pela posição no timeline),
+     * se ainda não estiverem ordenadas
+     */
+    private void sortByStart(int[] positions, int from, int to) {
+        boolean sorted = true;
+        for (int i = from + 1; i < to && sorted; i++) {
+            sorted = timeline.get(positions[i - 1]).getStartTime() <= timeline.get(positions[i]).getStartTime();
+        }
+        if (sorted) {
+            return;
+        }
+
+        // Início nos 32 bits altos, posição nos baixos
+        long[] packed = new long[to - from];
+        for (int i = from; i < to; i++) {
+            packed[i - from] = (long) timeline.get(positions[i]).getStartTime() << 32 | positions[i];
+        }
+        Arrays.sort(packed);
+        for (int i = from; i < to; i++) {
+            positions[i] = (int) packed[i - from];
+        }
+    }
+
+    private List<TimelineEntry> view(int[] positions, int count) {
+        return new AbstractList<>() {
+            @Override
+            public TimelineEntry get(int index) {
+                return timeline.get(positions[Objects.checkIndex(index, count)]);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+}
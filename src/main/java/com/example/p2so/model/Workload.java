@@ -0,0 +1,133 @@
+package com.example.p2so.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Carga de trabalho em formato compacto: uma coluna de inteiros primitivos por atributo.
+ * Os processos ficam ordenados por tempo de chegada (ordenação estável), de modo que o
+ * índice de cada processo é também sua posição na ordem de chegada.
+ * É imutável e pode ser compartilhada entre as execuções de todos os algoritmos.
+ */
+public class Workload {
+    private final int[] ids;           // ID de cada processo (P1, P2, P3...)
+    private final int[] arrivalTimes;  // Instante de criação
+    private final int[] burstTimes;    // Duração total
+    private final int[] priorities;    // Prioridade estática
+    private int hash;                  // Hash do conteúdo, calculado na primeira consulta (0 = ainda não calculado)
+
+    /**
+     * Cria a carga a partir das colunas. Os arrays passam a pertencer à carga
+     * e são reordenados por chegada se necessário.
+     */
+    public Workload(int[] ids, int[] arrivalTimes, int[] burstTimes, int[] priorities) {
+        int[] order = arrivalOrder(arrivalTimes);
+        if (order == null) {
+            this.ids = ids;
+            this.arrivalTimes = arrivalTimes;
+            this.burstTimes = burstTimes;
+            this.priorities = priorities;
+        } else {
+            this.ids = permute(ids, order);
+            this.arrivalTimes = permute(arrivalTimes, order);
+            this.burstTimes = permute(burstTimes, order);
+            this.priorities = permute(priorities, order);
+        }
+    }
+
+    /**
+     * Converte uma lista de processos para o formato compacto
+     */
+    public static Workload of(List<ProcessTask> processes) {
+        int n = processes.size();
+        int[] ids = new int[n];
+        int[] arrivalTimes = new int[n];
+        int[] burstTimes = new int[n];
+        int[] priorities = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            ProcessTask p = processes.get(i);
+            ids[i] = p.getId();
+            arrivalTimes[i] = p.getArrivalTime();
+            burstTimes[i] = p.getBurstTime();
+            priorities[i] = p.getPriority();
+        }
+
+        return new Workload(ids, arrivalTimes, burstTimes, priorities);
+    }
+
+    public int size() { return ids.length; }
+
+    public int getId(int index) { return ids[index]; }
+
+    public int getArrivalTime(int index) { return arrivalTimes[index]; }
+
+    public int getBurstTime(int index) { return burstTimes[index]; }
+
+    public int getPriority(int index) { return priorities[index]; }
+
+    /**
+     * Hash do conteúdo da carga (todas as colunas), calculado uma única vez
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Arrays.hashCode(ids);
+            h = 31 * h + Arrays.hashCode(arrivalTimes);
+            h = 31 * h + Arrays.hashCode(burstTimes);
+            h = 31 * h + Arrays.hashCode(priorities);
+            hash = h;
+        }
+        return h;
+    }
+
+    /**
+     * Duas cargas são iguais se tiverem os mesmos processos, na mesma ordem
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Workload other)) return false;
+        return hashCode() == other.hashCode()
+            && Arrays.equals(ids, other.ids)
+            && Arrays.equals(arrivalTimes, other.arrivalTimes)
+            && Arrays.equals(burstTimes, other.burstTimes)
+            && Arrays.equals(priorities, other.priorities);
+    }
+
+    /**
+     * Calcula a permutação que ordena os processos por chegada, mantendo a ordem
+     * original entre chegadas simultâneas
+     * @return Permutação, ou null se os processos já estiverem ordenados
+     */
+    private static int[] arrivalOrder(int[] arrivalTimes) {
+        int n = arrivalTimes.length;
+        boolean sorted = true;
+        for (int i = 1; i < n && sorted; i++) {
+            sorted = arrivalTimes[i - 1] <= arrivalTimes[i];
+        }
+        if (sorted) return null;
+
+        // Chave composta (chegada, índice) ordenada como long primitivo: estável e sem boxing
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = ((long) arrivalTimes[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    private static int[] permute(int[] column, int[] order) {
+        int[] result = new int[column.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = column[order[i]];
+        }
+        return result;
+    }
+}
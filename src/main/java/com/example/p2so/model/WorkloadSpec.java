@@ -0,0 +1,87 @@
+package com.example.p2so.model;
+
+/**
+ * Parâmetros do gerador de cargas sintéticas (ver WorkloadGenerator).
+ * Todos os campos têm valores padrão; a mesma especificação com a mesma seed
+ * gera sempre a mesma carga.
+ */
+public class WorkloadSpec {
+
+    /**
+     * Padrão de chegadas
+     */
+    public enum Arrivals {
+        POISSON,   // Intervalos exponenciais com média meanInterArrival
+        BURSTY     // Rajadas de tamanho médio burstSize chegando juntas; mesma taxa média do POISSON
+    }
+
+    /**
+     * Distribuição das durações
+     */
+    public enum Bursts {
+        EXPONENTIAL,  // Exponencial com média meanBurst
+        PARETO        // Pareto (cauda pesada) com expoente paretoAlpha e média meanBurst, limitada a maxBurst
+    }
+
+    /**
+     * Distribuição das prioridades entre priorityMin e priorityMax
+     */
+    public enum Priorities {
+        UNIFORM,   // Todas as prioridades igualmente prováveis
+        ZIPF       // Prioridade k (a partir de priorityMin) com peso 1/k^zipfExponent: maioria de alta prioridade
+    }
+
+    private int processCount = 1000;
+    private long seed = 42;
+    private Arrivals arrivals = Arrivals.POISSON;
+    private double meanInterArrival = 5.0;
+    private double burstSize = 10.0;
+    private Bursts bursts = Bursts.EXPONENTIAL;
+    private double meanBurst = 10.0;
+    private double paretoAlpha = 1.5;
+    private int maxBurst = 1_000_000;
+    private Priorities priorities = Priorities.UNIFORM;
+    private int priorityMin = 1;
+    private int priorityMax = 10;
+    private double zipfExponent = 1.0;
+
+    // Getters e Setters
+    public int getProcessCount() { return processCount; }
+    public void setProcessCount(int processCount) { this.processCount = processCount; }
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    public Arrivals getArrivals() { return arrivals; }
+    public void setArrivals(Arrivals arrivals) { this.arrivals = arrivals; }
+
+    public double getMeanInterArrival() { return meanInterArrival; }
+    public void setMeanInterArrival(double meanInterArrival) { this.meanInterArrival = meanInterArrival; }
+
+    public double getBurstSize() { return burstSize; }
+    public void setBurstSize(double burstSize) { this.burstSize = burstSize; }
+
+    public Bursts getBursts() { return bursts; }
+    public void setBursts(Bursts bursts) { this.bursts = bursts; }
+
+    public double getMeanBurst() { return meanBurst; }
+    public void setMeanBurst(double meanBurst) { this.meanBurst = meanBurst; }
+
+    public double getParetoAlpha() { return paretoAlpha; }
+    public void setParetoAlpha(double paretoAlpha) { this.paretoAlpha = paretoAlpha; }
+
+    public int getMaxBurst() { return maxBurst; }
+    public void setMaxBurst(int maxBurst) { this.maxBurst = maxBurst; }
+
+    public Priorities getPriorities() { return priorities; }
+    public void setPriorities(Priorities priorities) { this.priorities = priorities; }
+
+    public int getPriorityMin() { return priorityMin; }
+    public void setPriorityMin(int priorityMin) { this.priorityMin = priorityMin; }
+
+    public int getPriorityMax() { return priorityMax; }
+    public void setPriorityMax(int priorityMax) { this.priorityMax = priorityMax; }
+
+    public double getZipfExponent() { return zipfExponent; }
+    public void setZipfExponent(double zipfExponent) { this.zipfExponent = zipfExponent; }
+}
@@ -0,0 +1,60 @@
+package com.example.p2so.scheduler;
+
+/**
+ * Política do Round-Robin com prioridade e envelhecimento.
+ * Escolhe o processo de maior prioridade atual (desempate pelo ID), executa por um
+ * quantum, envelhece a fila e devolve o processo com sua prioridade estática.
+ */
+public class AgingPriorityPolicy implements DispatchPolicy {
+    private final AgingReadyQueue readyQueue;
+    private final int quantum;
+
+    /**
+     * @param capacity Capacidade inicial da fila
+     */
+    public AgingPriorityPolicy(ProcessTable table, int capacity, int quantum, int agingRate) {
+        this.readyQueue = new AgingReadyQueue(table, capacity, agingRate);
+        this.quantum = quantum;
+    }
+
+    @Override
+    public void add(int process) {
+        readyQueue.add(process);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return readyQueue.isEmpty();
+    }
+
+    @Override
+    public int select(int currentProcess) {
+        return readyQueue.poll();
+    }
+
+    @Override
+    public int timeSlice() {
+        return quantum;
+    }
+
+    @Override
+    public boolean isPreemptive() {
+        return false;
+    }
+
+    @Override
+    public void afterRun(int process, boolean finished) {
+        // Aplica envelhecimento aos processos na fila de espera
+        readyQueue.age();
+        if (!finished) {
+            // Retorna à fila com a prioridade estática
+            readyQueue.add(process);
+        }
+    }
+
+    @Override
+    public int steal(int runningProcess) {
+        // Como ao fim de um quantum, o processo migrado volta com a prioridade estática
+        return readyQueue.poll();
+    }
+}
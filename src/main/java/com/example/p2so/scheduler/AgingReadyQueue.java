@@ -0,0 +1,90 @@
+package com.example.p2so.scheduler;
+
+/**
+ * Fila de prontos do Round-Robin com prioridade e envelhecimento.
+ *
+ * Em vez de envelhecer cada processo da fila a cada quantum, mantém uma época global
+ * que conta os envelhecimentos ocorridos. A prioridade atual de um processo é derivada
+ * da época em que ele entrou na fila:
+ *   prioridade atual = max(1, prioridade - agingRate * (época atual - época de entrada))
+ * (sem o limite inferior enquanto o processo ainda não envelheceu nenhuma vez).
+ *
+ * A chave "prioridade + agingRate * época de entrada" não muda enquanto o processo
+ * espera, então a ordem relativa é mantida por um heap. Processos que atingem o
+ * limite 1 passam para um segundo heap, onde empatam e são ordenados pelo ID.
+ * Cada operação custa O(log n) e a escolha é a mesma de ordenar a fila por
+ * (prioridade atual, ID) a cada quantum. Assume taxa de envelhecimento não negativa.
+ */
+public class AgingReadyQueue {
+    private final ProcessTable table;
+    private final int agingRate;
+    private final long[] agingKey;      // prioridade + agingRate * época de entrada
+    private final ReadyQueue aging;     // processos acima do limite, ordenados por (chave, ID)
+    private final ReadyQueue floor;     // processos com prioridade atual 1, ordenados por ID
+    private long epoch;
+
+    /**
+     * As chaves e as posições nos heaps são compartilhadas pela tabela (ver ReadyQueue)
+     * @param capacity Capacidade inicial de cada heap
+     * @param agingRate Taxa de envelhecimento aplicada a cada quantum
+     */
+    public AgingReadyQueue(ProcessTable table, int capacity, int agingRate) {
+        this.table = table;
+        this.agingRate = agingRate;
+        this.agingKey = table.getQueueKeys();
+        this.aging = new ReadyQueue(table.getQueuePositions(), capacity, (a, b) -> {
+            int cmp = Long.compare(agingKey[a], agingKey[b]);
+            return cmp != 0 ? cmp : compareIds(a, b);
+        });
+        this.floor = new ReadyQueue(table.getQueuePositions(), capacity, this::compareIds);
+    }
+
+    /**
+     * Insere um processo na fila com sua prioridade estática
+     */
+    public void add(int process) {
+        agingKey[process] = table.getPriority(process) + (long) agingRate * epoch;
+        aging.add(process);
+    }
+
+    /**
+     * Remove e retorna o processo de maior prioridade atual (-1 se a fila estiver vazia)
+     */
+    public int poll() {
+        int best = aging.peek();
+        int floored = floor.peek();
+        if (best < 0) return floor.poll();
+        if (floored < 0) return aging.poll();
+
+        // Processos no heap de envelhecimento podem estar abaixo de 1 se ainda não envelheceram
+        int cmp = Long.compare(agingKey[best] - (long) agingRate * epoch, 1);
+        if (cmp < 0 || (cmp == 0 && compareIds(best, floored) < 0)) {
+            return aging.poll();
+        }
+        return floor.poll();
+    }
+
+    /**
+     * Envelhece todos os processos da fila (avança a época).
+     * Apenas os processos que atingem o limite 1 são movidos, cada um uma única vez.
+     */
+    public void age() {
+        epoch++;
+        long limit = 1 + (long) agingRate * epoch;
+        while (!aging.isEmpty() && agingKey[aging.peek()] <= limit) {
+            floor.add(aging.poll());
+        }
+    }
+
+    public boolean isEmpty() {
+        return aging.isEmpty() && floor.isEmpty();
+    }
+
+    public int size() {
+        return aging.size() + floor.size();
+    }
+
+    private int compareIds(int a, int b) {
+        return Integer.compare(table.getId(a), table.getId(b));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.p2so.scheduler;
+
+/**
+ * Política de despacho de um algoritmo de escalonamento.
+ * O núcleo de simulação (Scheduler.schedule) cuida do relógio, das chegadas,
+ * das trocas de contexto e do timeline; a política decide apenas qual processo
+ * executa e por quanto tempo. Processos são identificados pelo índice na ProcessTable.
+ */
+public interface DispatchPolicy {
+
+    /**
+     * Admite um processo que acabou de chegar
+     */
+    void add(int process);
+
+    /**
+     * Indica se não há processos prontos
+     */
+    boolean isEmpty();
+
+    /**
+     * Escolhe o próximo processo a executar
+     * @param currentProcess Último processo que executou (-1 se nenhum)
+     */
+    int select(int currentProcess);
+
+    /**
+     * Tempo máximo de execução por despacho (Integer.MAX_VALUE executa até o fim)
+     */
+    int timeSlice();
+
+    /**
+     * Indica se a escolha deve ser refeita a cada chegada de processo
+     */
+    boolean isPreemptive();
+
+    /**
+     * Chamado após o processo executar, já com as chegadas do período admitidas
+     * @param finished true se o processo terminou
+     */
+    void afterRun(int process, boolean finished);
+
+    /**
+     * Remove um processo em espera para migrar a outro núcleo: o que seria escolhido a seguir,
+     * nunca o processo em execução
+     * @param runningProcess Processo em execução neste núcleo (-1 se nenhum)
+     * @return Processo removido, ou -1 se não houver processo em espera
+     */
+    int steal(int runningProcess);
+}
@@ -0,0 +1,58 @@
+package com.example.p2so.scheduler;
+
+/**
+ * Política de fila FIFO: processos executam na ordem em que entram na fila.
+ * Sem limite de tempo é o FCFS; com quantum, o processo que não terminou volta
+ * ao fim da fila, depois dos que chegaram durante sua execução (Round-Robin).
+ */
+public class FifoPolicy implements DispatchPolicy {
+    private final FifoQueue queue;
+    private final int timeSlice;
+
+    /**
+     * @param capacity Capacidade inicial da fila
+     * @param timeSlice Quantum, ou Integer.MAX_VALUE para executar até o fim
+     */
+    public FifoPolicy(int capacity, int timeSlice) {
+        this.queue = new FifoQueue(capacity);
+        this.timeSlice = timeSlice;
+    }
+
+    @Override
+    public void add(int process) {
+        queue.add(process);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public int select(int currentProcess) {
+        return queue.poll();
+    }
+
+    @Override
+    public int timeSlice() {
+        return timeSlice;
+    }
+
+    @Override
+    public boolean isPreemptive() {
+        return false;
+    }
+
+    @Override
+    public void afterRun(int process, boolean finished) {
+        if (!finished) {
+            queue.add(process);
+        }
+    }
+
+    @Override
+    public int steal(int runningProcess) {
+        // O processo em execução não fica na fila
+        return queue.poll();
+    }
+}
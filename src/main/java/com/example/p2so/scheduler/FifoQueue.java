@@ -0,0 +1,53 @@
+package com.example.p2so.scheduler;
+
+/**
+ * Fila FIFO de índices de processos sobre um buffer circular de inteiros.
+ * Cada processo ocupa no máximo uma posição; com a capacidade igual ao total de
+ * processos o buffer nunca cresce. Com capacidade menor, dobra quando fica cheio.
+ */
+public class FifoQueue {
+    private int[] buffer;
+    private int head;
+    private int size;
+
+    public FifoQueue(int capacity) {
+        this.buffer = new int[Math.max(1, capacity)];
+    }
+
+    /**
+     * Insere um processo no fim da fila
+     */
+    public void add(int process) {
+        if (size == buffer.length) {
+            grow();
+        }
+        int tail = head + size;
+        if (tail >= buffer.length) tail -= buffer.length;
+        buffer[tail] = process;
+        size++;
+    }
+
+    /**
+     * Remove e retorna o processo do início da fila (-1 se a fila estiver vazia)
+     */
+    public int poll() {
+        if (size == 0) return -1;
+        int process = buffer[head];
+        if (++head == buffer.length) head = 0;
+        size--;
+        return process;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+
+    private void grow() {
+        // Desfaz a volta do buffer circular: os elementos passam a começar no índice 0
+        int[] larger = new int[buffer.length * 2];
+        System.arraycopy(buffer, head, larger, 0, buffer.length - head);
+        System.arraycopy(buffer, 0, larger, buffer.length - head, head);
+        buffer = larger;
+        head = 0;
+    }
+
+    public int size() { return size; }
+}
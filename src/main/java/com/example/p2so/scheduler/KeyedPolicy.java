@@ -0,0 +1,112 @@
+package com.example.p2so.scheduler;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Política que escolhe o processo de menor chave (burst, tempo restante ou prioridade)
+ * usando a ReadyQueue. O processo em execução permanece no heap até terminar, e seu
+ * tempo restante é atualizado com decrease-key após cada execução.
+ *
+ * As chegadas do período são admitidas depois da execução e antes de afterRun, quando o
+ * tempo restante do processo em execução já diminuiu mas sua posição no heap ainda não:
+ * por isso a primeira inserção após a escolha reposiciona o processo escolhido antes.
+ *
+ * Empates na chave são resolvidos seguindo as regras:
+ * 1. Processo que já está com processador (evita troca de contexto)
+ * 2. Processo com menor tempo restante
+ * 3. Escolha aleatória (ordem sorteada com seed fixo na ProcessTable)
+ */
+public class KeyedPolicy implements DispatchPolicy {
+    private final IntUnaryOperator key;
+    private final boolean preemptive;
+    private final ReadyQueue readyQueue;
+    private int selected = -1;  // Processo escolhido e ainda não reposicionado no heap (-1 se nenhum)
+
+    /**
+     * @param capacity Capacidade inicial da fila
+     * @param key Chave do algoritmo por processo (menor valor é escolhido primeiro)
+     * @param preemptive true para reavaliar a escolha a cada chegada
+     */
+    public KeyedPolicy(ProcessTable table, int capacity, IntUnaryOperator key, boolean preemptive) {
+        this.key = key;
+        this.preemptive = preemptive;
+        this.readyQueue = new ReadyQueue(table.getQueuePositions(), capacity, (a, b) -> {
+            int cmp = Integer.compare(key.applyAsInt(a), key.applyAsInt(b));
+            if (cmp != 0) return cmp;
+            cmp = Integer.compare(table.getRemainingTime(a), table.getRemainingTime(b));
+            if (cmp != 0) return cmp;
+            cmp = Integer.compare(table.getTieRank(a), table.getTieRank(b));
+            return cmp != 0 ? cmp : Integer.compare(a, b);
+        });
+    }
+
+    @Override
+    public void add(int process) {
+        if (selected >= 0) {
+            repositionSelected();
+        }
+        readyQueue.add(process);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return readyQueue.isEmpty();
+    }
+
+    @Override
+    public int select(int currentProcess) {
+        int best = readyQueue.peek();
+        // Regra 1: o processo atual é mantido se empata na chave com o melhor candidato
+        if (currentProcess >= 0 && currentProcess != best && readyQueue.contains(currentProcess)
+            && key.applyAsInt(currentProcess) == key.applyAsInt(best)) {
+            best = currentProcess;
+        }
+        selected = best;
+        return best;
+    }
+
+    @Override
+    public int timeSlice() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public boolean isPreemptive() {
+        return preemptive;
+    }
+
+    @Override
+    public void afterRun(int process, boolean finished) {
+        selected = -1;
+        if (finished) {
+            readyQueue.remove(process);
+        } else {
+            // Tempo restante diminuiu: reposiciona o processo no heap
+            readyQueue.decreaseKey(process);
+        }
+    }
+
+    @Override
+    public int steal(int runningProcess) {
+        // O processo em execução permanece no heap: é retirado enquanto o melhor em espera sai
+        boolean running = runningProcess >= 0 && readyQueue.contains(runningProcess);
+        if (running) {
+            readyQueue.remove(runningProcess);
+        }
+        int stolen = readyQueue.poll();
+        if (running) {
+            readyQueue.add(runningProcess);
+        }
+        return stolen;
+    }
+
+    /**
+     * Reposiciona o processo escolhido, cujo tempo restante pode ter diminuído (decrease-key)
+     */
+    private void repositionSelected() {
+        if (readyQueue.contains(selected)) {
+            readyQueue.decreaseKey(selected);
+        }
+        selected = -1;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.p2so.scheduler;
+
+import com.example.p2so.model.Percentiles;
+
+/**
+ * Histograma de memória fixa para tempos (espera, vida, resposta), com buckets logarítmicos:
+ * valores abaixo de 64 têm bucket próprio; acima disso cada potência de 2 é dividida em
+ * 32 buckets, então um percentil difere do valor exato em menos de 1/32 (~3%).
+ * Cobre todo o intervalo de int com 864 contadores, independentemente do número de processos.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BITS = 5;                         // 32 buckets por potência de 2
+    private static final int LINEAR_LIMIT = 1 << (SUB_BITS + 1);   // Valores exatos abaixo de 64
+    private static final int BUCKETS = (32 - SUB_BITS) << SUB_BITS;  // Até Integer.MAX_VALUE
+
+    private final int[] counts = new int[BUCKETS];
+    private long count;
+    private int max;
+
+    /**
+     * Registra um valor (valores negativos contam como 0)
+     */
+    public void record(int value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts[bucket(value)]++;
+        count++;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Acumula os valores de outro histograma (ex.: de outro núcleo)
+     */
+    public void add(LatencyHistogram other) {
+        for (int b = 0; b < BUCKETS; b++) {
+            counts[b] += other.counts[b];
+        }
+        count += other.count;
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Valor no percentil informado: o maior valor do bucket que contém a posição
+     * ceil(percentile/100 × count), limitado ao máximo registrado
+     * @param percentile Percentil entre 0 e 100
+     */
+    public int percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += counts[b];
+            if (seen >= rank) {
+                return Math.min(highestValue(b), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Resumo com p50, p90, p99 e máximo
+     */
+    public Percentiles toPercentiles() {
+        return new Percentiles(percentile(50), percentile(90), percentile(99), max);
+    }
+
+    public long getCount() { return count; }
+
+    public int getMax() { return max; }
+
+    private static int bucket(int value) {
+        if (value < LINEAR_LIMIT) {
+            return value;
+        }
+        int exponent = 31 - Integer.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        // value >>> shift fica em [32, 64): os 5 bits abaixo do mais significativo
+        return (shift << SUB_BITS) + (value >>> shift);
+    }
+
+    /**
+     * Maior valor que cai no bucket
+     */
+    private static int highestValue(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int shift = (bucket >>> SUB_BITS) - 1;
+        long mantissa = (bucket & ((1 << SUB_BITS) - 1)) + (1 << SUB_BITS);
+        return (int) Math.min(Integer.MAX_VALUE, ((mantissa + 1) << shift) - 1);
+    }
+}
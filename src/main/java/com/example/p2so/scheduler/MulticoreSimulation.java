@@ -0,0 +1,227 @@
+package com.example.p2so.scheduler;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Núcleo de simulação com vários núcleos. Cada núcleo tem sua própria política
+ * (fila de prontos, criada pelo algoritmo) e seu próprio estado (relógio, processo atual,
+ * trocas de contexto, fatias do timeline).
+ *
+ * O tempo avança de evento em evento: chegada de processo ou fim de execução em algum
+ * núcleo. Os núcleos ocupados ficam num heap ordenado pelo fim da execução, então cada
+ * evento custa O(log núcleos) além do custo da política; apenas o roubo de trabalho
+ * percorre os núcleos, e só quando um núcleo fica sem processos prontos.
+ *
+ * - Chegada: vai para um núcleo ocioso; se não houver, para o de menor fila entre dois
+ *   sorteados (seed fixo, resultado reprodutível). Nos algoritmos preemptivos, a execução
+ *   do núcleo é interrompida para que a escolha seja refeita, como no monoprocessador.
+ * - Fim da execução: como no monoprocessador, as chegadas do instante entram na fila
+ *   antes do processo que executou.
+ * - Núcleo sem processos prontos: rouba da fila mais longa o processo que ela executaria
+ *   a seguir (migração); se nenhuma fila tiver processos em espera, fica ocioso.
+ */
+class MulticoreSimulation {
+    private static final int PROGRESS_INTERVAL = 1024;  // Eventos entre notificações de progresso
+
+    private final Scheduler scheduler;
+    private final ProcessTable table;
+    private final ProgressListener listener;
+    private final int cores;
+    private final SimulationState[] states;
+    private final DispatchPolicy[] policies;
+    private final boolean preemptive;
+
+    private final int[] running;      // Processo em execução em cada núcleo (-1 se livre)
+    private final int[] runStart;     // Início da execução atual
+    private final int[] runEnd;       // Fim previsto da execução atual
+    private final int[] assigned;     // Processos na fila de cada núcleo, incluindo o em execução
+    private final ReadyQueue busy;    // Núcleos em execução, pelo fim previsto
+    private final FifoQueue idle;     // Núcleos ociosos, sem processos
+    private final FifoQueue pending;  // Núcleos livres que decidem no instante atual
+    private final int[] thieves;      // Núcleos livres sem processos prontos no instante atual
+    private final SplittableRandom random = new SplittableRandom(42);
+    private int completed;
+
+    MulticoreSimulation(Scheduler scheduler, ProcessTable table, TimelineSink sink,
+                        ProgressListener listener, int cores) {
+        this.scheduler = scheduler;
+        this.table = table;
+        this.listener = listener;
+        this.cores = cores;
+        this.states = new SimulationState[cores];
+        this.policies = new DispatchPolicy[cores];
+
+        // Filas dimensionadas para uma divisão uniforme; crescem se necessário
+        int capacity = Math.max(16, table.size() / cores);
+        for (int c = 0; c < cores; c++) {
+            states[c] = new SimulationState(table, sink, c);
+            policies[c] = scheduler.createPolicy(table, capacity);
+        }
+        this.preemptive = policies[0].isPreemptive();
+
+        this.running = new int[cores];
+        Arrays.fill(running, -1);
+        this.runStart = new int[cores];
+        this.runEnd = new int[cores];
+        this.assigned = new int[cores];
+        this.busy = new ReadyQueue(cores, (a, b) -> {
+            int cmp = Integer.compare(runEnd[a], runEnd[b]);
+            return cmp != 0 ? cmp : Integer.compare(a, b);
+        });
+        this.idle = new FifoQueue(cores);
+        for (int c = 0; c < cores; c++) {
+            idle.add(c);
+        }
+        this.pending = new FifoQueue(cores);
+        this.thieves = new int[cores];
+    }
+
+    /**
+     * Executa a simulação; a tabela deve ter sido reiniciada
+     * @return Estado agregado dos núcleos
+     */
+    SimulationState run() {
+        int n = table.size();
+        int nextArrival = 0;
+        int time = 0;
+        int steps = 0;
+
+        while (completed < n) {
+            // Permite cancelar simulações longas (ex.: tempo limite excedido)
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Simulação cancelada: " + scheduler.getAlgorithmName());
+            }
+
+            if (++steps == PROGRESS_INTERVAL) {
+                listener.progress(time, completed);
+                steps = 0;
+            }
+
+            int nextEnd = busy.isEmpty() ? Integer.MAX_VALUE : runEnd[busy.peek()];
+            int nextArrivalTime = nextArrival < n ? table.getArrivalTime(nextArrival) : Integer.MAX_VALUE;
+            time = Math.min(nextEnd, nextArrivalTime);
+
+            // Chegadas: núcleo ocioso ou o de menor fila entre dois sorteados
+            while (nextArrival < n && table.getArrivalTime(nextArrival) <= time) {
+                int process = nextArrival++;
+                int core;
+                if (!idle.isEmpty()) {
+                    core = idle.poll();
+                    pending.add(core);
+                } else {
+                    int a = random.nextInt(cores);
+                    int b = random.nextInt(cores);
+                    core = waiting(a) <= waiting(b) ? a : b;
+                    if (preemptive && running[core] != -1) {
+                        busy.remove(core);
+                        finishRun(core, time);
+                        pending.add(core);
+                    }
+                }
+                policies[core].add(process);
+                assigned[core]++;
+            }
+
+            // Execuções que terminam neste instante
+            while (!busy.isEmpty() && runEnd[busy.peek()] == time) {
+                int core = busy.poll();
+                finishRun(core, time);
+                pending.add(core);
+            }
+
+            // Núcleos livres: primeiro os que têm processos prontos, depois os que roubam
+            int thiefCount = 0;
+            while (!pending.isEmpty()) {
+                int core = pending.poll();
+                if (policies[core].isEmpty()) {
+                    thieves[thiefCount++] = core;
+                } else {
+                    dispatch(core, time);
+                }
+            }
+            for (int i = 0; i < thiefCount; i++) {
+                int core = thieves[i];
+                // Processos admitidos e não concluídos que não estão em execução
+                int victim = nextArrival - completed > busy.size() ? longestQueue() : -1;
+                if (victim < 0) {
+                    idle.add(core);
+                    continue;
+                }
+                int process = policies[victim].steal(running[victim]);
+                assigned[victim]--;
+                policies[core].add(process);
+                assigned[core]++;
+                states[core].migrate();
+                dispatch(core, time);
+            }
+        }
+
+        SimulationState state = new SimulationState(table, states);
+        listener.progress(state.getCurrentTime(), state.getCompletedCount());
+        return state;
+    }
+
+    /**
+     * Escolhe o próximo processo do núcleo e agenda o fim da sua execução
+     */
+    private void dispatch(int core, int time) {
+        SimulationState state = states[core];
+        if (state.getCurrentTime() < time) {
+            state.idleUntil(time);  // Núcleo estava ocioso
+        }
+
+        DispatchPolicy policy = policies[core];
+        int process = policy.select(state.getCurrentProcess());
+        state.dispatch(process);
+
+        running[core] = process;
+        runStart[core] = time;
+        runEnd[core] = time + Math.min(table.getRemainingTime(process), policy.timeSlice());
+        busy.add(core);
+    }
+
+    /**
+     * Encerra a execução do núcleo no instante informado (fim previsto ou preempção)
+     */
+    private void finishRun(int core, int time) {
+        SimulationState state = states[core];
+        int process = running[core];
+        state.run(time - runStart[core]);
+
+        boolean finished = table.getRemainingTime(process) == 0;
+        if (finished) {
+            state.complete();
+            completed++;
+            assigned[core]--;
+        }
+        policies[core].afterRun(process, finished);
+
+        // Nos preemptivos a fatia continua aberta se o mesmo processo for escolhido
+        if (finished || !preemptive) {
+            state.closeSlice();
+        }
+        running[core] = -1;
+    }
+
+    /**
+     * Núcleo com mais processos em espera (sem contar o em execução), ou -1 se nenhum tiver
+     */
+    private int longestQueue() {
+        int best = -1;
+        int bestWaiting = 0;
+        for (int c = 0; c < cores; c++) {
+            int waiting = waiting(c);
+            if (waiting > bestWaiting) {
+                best = c;
+                bestWaiting = waiting;
+            }
+        }
+        return best;
+    }
+
+    private int waiting(int core) {
+        return assigned[core] - (running[core] != -1 ? 1 : 0);
+    }
+}
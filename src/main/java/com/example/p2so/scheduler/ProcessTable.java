@@ -0,0 +1,119 @@
+package com.example.p2so.scheduler;
+
+import com.example.p2so.model.Workload;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Estado de execução dos processos de uma carga de trabalho, em arrays primitivos.
+ * Os processos são identificados pelo índice na carga (ordem de chegada).
+ * A tabela é criada uma vez por carga e reiniciada (reset) antes de cada algoritmo,
+ * evitando copiar objetos de processo a cada execução.
+ */
+public class ProcessTable {
+    private final Workload workload;
+    private final int[] remainingTimes;   // Tempo restante de execução
+    private final int[] completionTimes;  // Tempo de conclusão
+    private final int[] responseTimes;    // Tempo de primeira resposta (-1 se ainda não executou)
+    private final int[] tieRanks;         // Ordem sorteada para desempate aleatório
+    private final BitSet completed;       // Processos concluídos
+    private int[] queuePositions;         // Posição de cada processo na fila de prontos (criado sob demanda)
+    private long[] queueKeys;             // Chave de ordenação na fila de prontos (criado sob demanda)
+
+    public ProcessTable(Workload workload) {
+        int n = workload.size();
+        this.workload = workload;
+        this.remainingTimes = new int[n];
+        this.completionTimes = new int[n];
+        this.responseTimes = new int[n];
+        this.completed = new BitSet(n);
+
+        // Sorteio único com seed fixo para reprodutibilidade
+        this.tieRanks = new int[n];
+        Random random = new Random(42);
+        for (int i = 0; i < n; i++) {
+            tieRanks[i] = random.nextInt();
+        }
+
+        reset();
+    }
+
+    /**
+     * Restaura o estado inicial de todos os processos
+     */
+    public final void reset() {
+        for (int i = 0; i < remainingTimes.length; i++) {
+            remainingTimes[i] = workload.getBurstTime(i);
+        }
+        Arrays.fill(completionTimes, 0);
+        Arrays.fill(responseTimes, -1);
+        completed.clear();
+    }
+
+    /**
+     * Executa o processo por uma quantidade de unidades de tempo
+     */
+    public void execute(int process, int timeUnits) {
+        remainingTimes[process] -= timeUnits;
+    }
+
+    /**
+     * Marca o processo como concluído no instante informado
+     */
+    public void complete(int process, int completionTime) {
+        completionTimes[process] = completionTime;
+        completed.set(process);
+    }
+
+    public boolean isComplete(int process) {
+        return completed.get(process);
+    }
+
+    public Workload getWorkload() { return workload; }
+
+    public int size() { return workload.size(); }
+
+    public int getId(int process) { return workload.getId(process); }
+
+    public int getArrivalTime(int process) { return workload.getArrivalTime(process); }
+
+    public int getBurstTime(int process) { return workload.getBurstTime(process); }
+
+    public int getPriority(int process) { return workload.getPriority(process); }
+
+    public int getRemainingTime(int process) { return remainingTimes[process]; }
+
+    public int getCompletionTime(int process) { return completionTimes[process]; }
+
+    /**
+     * Cópia dos tempos de conclusão, que sobrevive ao próximo reset
+     */
+    public int[] getCompletionTimes() { return completionTimes.clone(); }
+
+    public int getResponseTime(int process) { return responseTimes[process]; }
+    public void setResponseTime(int process, int responseTime) { responseTimes[process] = responseTime; }
+
+    public int getTieRank(int process) { return tieRanks[process]; }
+
+    /**
+     * Posições na fila de prontos, compartilhadas por todas as filas desta tabela
+     * (um processo está em no máximo uma fila por vez; ver ReadyQueue)
+     */
+    public int[] getQueuePositions() {
+        if (queuePositions == null) {
+            queuePositions = new int[size()];
+        }
+        return queuePositions;
+    }
+
+    /**
+     * Chaves de ordenação das filas com envelhecimento, compartilhadas como as posições
+     */
+    public long[] getQueueKeys() {
+        if (queueKeys == null) {
+            queueKeys = new long[size()];
+        }
+        return queueKeys;
+    }
+}
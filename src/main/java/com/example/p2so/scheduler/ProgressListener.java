@@ -0,0 +1,26 @@
+package com.example.p2so.scheduler;
+
+/**
+ * Recebe o progresso de uma simulação em andamento.
+ * É chamado pela thread da simulação a cada lote de decisões de despacho e ao final,
+ * portanto a implementação deve ser rápida e nunca bloquear.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /**
+     * Listener que ignora o progresso
+     */
+    ProgressListener NONE = (simulatedTime, completedCount) -> { };
+
+    /**
+     * @param simulatedTime Tempo simulado atual
+     * @param completedCount Processos concluídos até agora
+     */
+    void progress(int simulatedTime, int completedCount);
+
+    /**
+     * Chamado uma vez ao final da simulação, com o estado final (tempo, despachos, trocas de contexto)
+     */
+    default void finished(SimulationState state) { }
+}
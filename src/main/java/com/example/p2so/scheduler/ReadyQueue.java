@@ -0,0 +1,141 @@
+package com.example.p2so.scheduler;
+
+import java.util.Arrays;
+
+/**
+ * Fila de prontos implementada como heap mínimo indexado.
+ * Armazena índices de processos (posições na lista do escalonador) e mantém
+ * a posição de cada um no heap, permitindo remover ou reordenar um processo
+ * específico em O(log n) - por exemplo, quando seu tempo restante diminui.
+ *
+ * O array de posições pode ser compartilhado entre filas cujos processos nunca estão
+ * em duas filas ao mesmo tempo (ex.: uma fila por núcleo): a posição só vale se o
+ * heap desta fila tiver o processo naquele índice, então entradas antigas são ignoradas.
+ */
+public class ReadyQueue {
+
+    /**
+     * Ordem entre dois processos, identificados pelo índice.
+     * Retorna um valor negativo se o primeiro deve ser escolhido antes do segundo.
+     */
+    @FunctionalInterface
+    public interface Order {
+        int compare(int a, int b);
+    }
+
+    private final Order order;
+    private final int[] position;   // Posição de cada processo no heap (válida se heap[posição] == processo)
+    private int[] heap;             // Índices dos processos organizados como heap
+    private int size;
+
+    /**
+     * @param capacity Quantidade total de processos
+     * @param order Ordem de escolha dos processos
+     */
+    public ReadyQueue(int capacity, Order order) {
+        this(new int[capacity], capacity, order);
+    }
+
+    /**
+     * @param position Posições compartilhadas, com uma entrada por processo
+     * @param capacity Capacidade inicial do heap (cresce se necessário)
+     * @param order Ordem de escolha dos processos
+     */
+    public ReadyQueue(int[] position, int capacity, Order order) {
+        this.order = order;
+        this.position = position;
+        this.heap = new int[Math.max(1, capacity)];
+    }
+
+    /**
+     * Insere um processo na fila
+     */
+    public void add(int process) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, Math.min(position.length, 2 * heap.length));
+        }
+        heap[size] = process;
+        position[process] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Retorna o processo de maior prioridade sem removê-lo (-1 se a fila estiver vazia)
+     */
+    public int peek() {
+        return size == 0 ? -1 : heap[0];
+    }
+
+    /**
+     * Remove e retorna o processo de maior prioridade (-1 se a fila estiver vazia)
+     */
+    public int poll() {
+        if (size == 0) return -1;
+        int top = heap[0];
+        remove(top);
+        return top;
+    }
+
+    /**
+     * Remove um processo específico da fila
+     */
+    public void remove(int process) {
+        if (!contains(process)) return;
+
+        int index = position[process];
+        int last = heap[--size];
+        if (index < size) {
+            heap[index] = last;
+            position[last] = index;
+            siftDown(index);
+            siftUp(position[last]);
+        }
+    }
+
+    /**
+     * Reposiciona um processo cuja chave diminuiu (ex.: tempo restante após executar)
+     */
+    public void decreaseKey(int process) {
+        siftUp(position[process]);
+    }
+
+    public boolean contains(int process) {
+        int index = position[process];
+        return index >= 0 && index < size && heap[index] == process;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public int size() { return size; }
+
+    private void siftUp(int index) {
+        int process = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (order.compare(process, heap[parent]) >= 0) break;
+            heap[index] = heap[parent];
+            position[heap[index]] = index;
+            index = parent;
+        }
+        heap[index] = process;
+        position[process] = index;
+    }
+
+    private void siftDown(int index) {
+        int process = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && order.compare(heap[right], heap[child]) < 0) {
+                child = right;
+            }
+            if (order.compare(process, heap[child]) <= 0) break;
+            heap[index] = heap[child];
+            position[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = process;
+        position[process] = index;
+    }
+}
@@ -2,12 +2,16 @@ package com.example.p2so.scheduler;
 
 import com.example.p2so.model.*;
 import java.util.*;
+import java.util.concurrent.CancellationException;
 
 /**
  * Classe base abstrata para todos os algoritmos de escalonamento.
- * Fornece funcionalidades comuns para cálculo de métricas e geração de resultados.
+ * Fornece o núcleo de simulação comum, o cálculo de métricas e a geração de resultados;
+ * cada algoritmo fornece apenas sua política de despacho (DispatchPolicy).
  */
 public abstract class Scheduler {
+    private static final int PROGRESS_INTERVAL = 1024;  // Despachos entre notificações de progresso
+
     protected Configuration config;
 
     public Scheduler(Configuration config) {
@@ -15,111 +19,196 @@ public abstract class Scheduler {
     }
 
     /**
-     * Método abstrato que deve ser implementado por cada algoritmo de escalonamento
-     * @param processes Lista de processos a serem escalonados
-     * @return Resultado do escalonamento com métricas e timeline
+     * Método abstrato que deve ser implementado por cada algoritmo de escalonamento:
+     * a política que decide qual processo executa e por quanto tempo.
+     * Com vários núcleos, cada núcleo recebe sua própria política.
+     * @param table Tabela de processos a serem escalonados
+     * @param capacity Processos que a fila deve comportar sem crescer
      */
-    public abstract SchedulerResult schedule(List<ProcessTask> processes);
+    protected abstract DispatchPolicy createPolicy(ProcessTable table, int capacity);
 
     /**
-     * Retorna o nome do algoritmo
+     * Escalona os processos da tabela, coletando o timeline em memória
+     * @param table Tabela de processos a serem escalonados
+     * @return Resultado do escalonamento com métricas e timeline
      */
-    public abstract String getAlgorithmName();
+    public SchedulerResult schedule(ProcessTable table) {
+        return schedule(table, ProgressListener.NONE, true);
+    }
 
     /**
-     * Cria uma cópia profunda da lista de processos
+     * Escalona os processos da tabela, informando o progresso ao listener
+     * @param includeProcessMetrics Se false, o resultado não traz as métricas de cada processo
+     *                              (apenas médias e percentis), para cargas muito grandes
      */
-    protected List<ProcessTask> copyProcesses(List<ProcessTask> processes) {
-        List<ProcessTask> copy = new ArrayList<>();
-        for (ProcessTask p : processes) {
-            copy.add(new ProcessTask(p));
-        }
-        return copy;
+    public SchedulerResult schedule(ProcessTable table, ProgressListener listener, boolean includeProcessMetrics) {
+        TimelineBuffer timeline = new TimelineBuffer();
+        SimulationState state = simulate(table, timeline, listener);
+        return buildResult(table, state, timeline, includeProcessMetrics);
     }
 
     /**
-     * Calcula as métricas finais dos processos
+     * Núcleo de simulação comum a todos os algoritmos.
+     * A tabela é reiniciada antes da simulação, podendo ser reutilizada entre algoritmos.
+     * O tempo avança de evento em evento: fim da fatia do algoritmo, término do processo,
+     * chegada de processo (apenas nos preemptivos) ou fim de um período ocioso.
+     * As fatias são entregues ao sink assim que fecham; ao final, os tempos de cada
+     * processo ficam na tabela e os totais no estado retornado.
+     * @param table Tabela de processos a serem escalonados
+     * @param sink Destino das fatias do timeline
      */
-    protected SchedulerResult buildResult(List<ProcessTask> processes, List<TimelineEntry> timeline,
-                                         int contextSwitches) {
-        Map<Integer, ProcessMetrics> metricsMap = new HashMap<>();
-        double totalTurnaround = 0;
-        double totalWaiting = 0;
-
-        for (ProcessTask p : processes) {
-            // Turnaround time = completion time - arrival time
-            p.setTurnaroundTime(p.getCompletionTime() - p.getArrivalTime());
-            // Waiting time = turnaround time - burst time
-            p.setWaitingTime(p.getTurnaroundTime() - p.getBurstTime());
+    public SimulationState simulate(ProcessTable table, TimelineSink sink) {
+        return simulate(table, sink, ProgressListener.NONE);
+    }
 
-            totalTurnaround += p.getTurnaroundTime();
-            totalWaiting += p.getWaitingTime();
+    /**
+     * Núcleo de simulação, informando o progresso ao listener a cada PROGRESS_INTERVAL
+     * despachos e ao final (ver ProgressListener.finished)
+     */
+    public SimulationState simulate(ProcessTable table, TimelineSink sink, ProgressListener listener) {
+        table.reset();
+        if (config.getCores() > 1) {
+            SimulationState state = new MulticoreSimulation(this, table, sink, listener, config.getCores()).run();
+            listener.finished(state);
+            return state;
+        }
 
-            ProcessMetrics metrics = new ProcessMetrics(
-                p.getId(),
-                p.getArrivalTime(),
-                p.getBurstTime(),
-                p.getCompletionTime(),
-                p.getTurnaroundTime(),
-                p.getWaitingTime(),
-                p.getResponseTime()
-            );
-            metricsMap.put(p.getId(), metrics);
+        SimulationState state = new SimulationState(table, sink);
+        DispatchPolicy policy = createPolicy(table, table.size());
+        int steps = 0;
+
+        while (!state.isFinished()) {
+            // Permite cancelar simulações longas (ex.: tempo limite excedido)
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Simulação cancelada: " + getAlgorithmName());
+            }
+
+            if (++steps == PROGRESS_INTERVAL) {
+                listener.progress(state.getCurrentTime(), state.getCompletedCount());
+                steps = 0;
+            }
+
+            // Adiciona processos que chegaram
+            state.admitArrivals(policy);
+
+            if (policy.isEmpty()) {
+                // CPU ociosa: avança direto até a próxima chegada
+                state.idleUntilNextArrival();
+                continue;
+            }
+
+            int selected = policy.select(state.getCurrentProcess());
+            state.dispatch(selected);
+
+            // Executa até o fim da fatia ou do processo; preemptivos param na próxima chegada
+            int runTime = Math.min(table.getRemainingTime(selected), policy.timeSlice());
+            if (policy.isPreemptive()) {
+                runTime = Math.min(runTime, state.nextArrivalTime() - state.getCurrentTime());
+            }
+            state.run(runTime);
+
+            // Chegadas durante a execução entram na fila antes do processo que executou
+            state.admitArrivals(policy);
+
+            boolean finished = table.getRemainingTime(selected) == 0;
+            if (finished) {
+                state.complete();
+            }
+            policy.afterRun(selected, finished);
+
+            // Nos preemptivos a fatia continua aberta enquanto o mesmo processo for escolhido
+            if (finished || !policy.isPreemptive()) {
+                state.closeSlice();
+            }
         }
 
-        double avgTurnaround = totalTurnaround / processes.size();
-        double avgWaiting = totalWaiting / processes.size();
+        listener.progress(state.getCurrentTime(), state.getCompletedCount());
+        listener.finished(state);
+        return state;
+    }
 
-        return new SchedulerResult(
-            getAlgorithmName(),
-            avgTurnaround,
-            avgWaiting,
-            contextSwitches,
-            timeline,
-            metricsMap
-        );
+    /**
+     * Escalona uma lista de processos
+     * @param processes Lista de processos a serem escalonados
+     * @return Resultado do escalonamento com métricas e timeline
+     */
+    public SchedulerResult schedule(List<ProcessTask> processes) {
+        return schedule(Workload.of(processes));
     }
 
     /**
-     * Resolve empates na escolha de processos seguindo as regras:
-     * 1. Processo que já está com processador (evita troca de contexto)
-     * 2. Processo com menor tempo restante
-     * 3. Escolha aleatória
+     * Escalona uma carga de trabalho no formato compacto
      */
-    protected ProcessTask resolveTie(List<ProcessTask> candidates, ProcessTask currentProcess) {
-        if (candidates.isEmpty()) return null;
-        if (candidates.size() == 1) return candidates.get(0);
+    public SchedulerResult schedule(Workload workload) {
+        return schedule(new ProcessTable(workload));
+    }
 
-        // Regra 1: Se o processo atual está entre os candidatos, mantém ele
-        if (currentProcess != null && candidates.contains(currentProcess)) {
-            return currentProcess;
-        }
+    /**
+     * Retorna o nome do algoritmo
+     */
+    public abstract String getAlgorithmName();
+
+    /**
+     * Número de núcleos simulados
+     */
+    public int getCores() {
+        return config.getCores();
+    }
 
-        // Regra 2: Escolhe o processo com menor tempo restante
-        int minRemainingTime = candidates.stream()
-            .mapToInt(ProcessTask::getRemainingTime)
-            .min()
-            .orElse(Integer.MAX_VALUE);
+    /**
+     * Calcula as métricas finais dos processos. Os percentis vêm dos histogramas
+     * preenchidos durante a simulação; o mapa por processo é opcional.
+     * Com vários núcleos as fatias se sobrepõem, então o timeline não traz estados de espera.
+     */
+    protected SchedulerResult buildResult(ProcessTable table, SimulationState state,
+                                          TimelineBuffer timeline, boolean includeProcessMetrics) {
+        Map<Integer, ProcessMetrics> metricsMap = includeProcessMetrics ? new HashMap<>() : Map.of();
 
-        List<ProcessTask> shortestCandidates = candidates.stream()
-            .filter(p -> p.getRemainingTime() == minRemainingTime)
-            .toList();
+        for (int p = 0; includeProcessMetrics && p < table.size(); p++) {
+            // Turnaround time = completion time - arrival time
+            int turnaroundTime = table.getCompletionTime(p) - table.getArrivalTime(p);
+            // Waiting time = turnaround time - burst time
+            int waitingTime = turnaroundTime - table.getBurstTime(p);
 
-        if (shortestCandidates.size() == 1) {
-            return shortestCandidates.get(0);
+            ProcessMetrics metrics = new ProcessMetrics(
+                table.getId(p),
+                table.getArrivalTime(p),
+                table.getBurstTime(p),
+                table.getCompletionTime(p),
+                turnaroundTime,
+                waitingTime,
+                table.getResponseTime(p)
+            );
+            metricsMap.put(table.getId(p), metrics);
         }
 
-        // Regra 3: Escolha aleatória
-        Random random = new Random(42); // Seed fixo para reprodutibilidade
-        return shortestCandidates.get(random.nextInt(shortestCandidates.size()));
-    }
+        // Estados de espera de cada entrada derivados dos intervalos chegada-conclusão
+        // (com vários núcleos, os intervalos servem apenas ao índice do timeline)
+        ReadyIntervals lifetimes = new ReadyIntervals(table.getWorkload(), table.getCompletionTimes());
+        ReadyIntervals readyIntervals = config.getCores() == 1 ? lifetimes : null;
+
+        // Utilização de cada núcleo em relação ao tempo total da simulação
+        List<CoreMetrics> coreMetrics = new ArrayList<>();
+        for (SimulationState core : state.getCores()) {
+            double utilization = state.getCurrentTime() > 0
+                ? (double) core.getBusyTime() / state.getCurrentTime()
+                : 0;
+            coreMetrics.add(new CoreMetrics(core.getCore(), core.getBusyTime(), utilization,
+                                            core.getContextSwitches(), core.getMigrations()));
+        }
 
-    /**
-     * Obtém os processos prontos em um determinado tempo
-     */
-    protected List<ProcessTask> getReadyProcesses(List<ProcessTask> processes, int currentTime) {
-        return processes.stream()
-            .filter(p -> p.getArrivalTime() <= currentTime && !p.isComplete())
-            .toList();
+        return new SchedulerResult(
+            getAlgorithmName(),
+            state.getAverageTurnaroundTime(),
+            state.getAverageWaitingTime(),
+            state.getContextSwitches(),
+            state.getWaitingTimes().toPercentiles(),
+            state.getTurnaroundTimes().toPercentiles(),
+            state.getResponseTimes().toPercentiles(),
+            coreMetrics,
+            timeline.toEntries(readyIntervals),
+            metricsMap,
+            lifetimes
+        );
     }
 }
@@ -0,0 +1,213 @@
+package com.example.p2so.scheduler;
+
+/**
+ * Estado incremental de uma simulação, comum a todos os algoritmos.
+ * Mantém o relógio, o cursor de chegadas, o contador de processos concluídos,
+ * o processo atual, os despachos e as trocas de contexto e os histogramas de
+ * espera, vida e resposta, e emite as fatias do timeline para um TimelineSink.
+ *
+ * Com vários núcleos, cada núcleo tem seu próprio estado (relógio, processo atual,
+ * trocas de contexto) e o resultado é um estado agregado que soma os demais.
+ */
+public class SimulationState {
+    private final ProcessTable table;
+    private final TimelineSink sink;
+    private final int core;                 // Núcleo deste estado (0 com um núcleo)
+    private final SimulationState[] cores;  // Estados por núcleo, no estado agregado (null com um núcleo)
+    private int currentTime;
+    private int nextArrival;          // Cursor: próximo processo (em ordem de chegada) a ser admitido
+    private int completedCount;
+    private int currentProcess = -1;  // Último processo despachado (-1 se nenhum)
+    private int dispatches;
+    private int contextSwitches;
+    private int migrations;           // Processos migrados para este núcleo
+    private long busyTime;            // Tempo em que o núcleo executou processos
+    private int sliceStart = -1;      // Início da fatia em aberto do processo atual (-1 se nenhuma)
+    private long totalTurnaround;     // Soma dos tempos de vida dos processos concluídos
+    private long totalWaiting;        // Soma dos tempos de espera dos processos concluídos
+    private final LatencyHistogram waitingTimes = new LatencyHistogram();
+    private final LatencyHistogram turnaroundTimes = new LatencyHistogram();
+    private final LatencyHistogram responseTimes = new LatencyHistogram();
+
+    public SimulationState(ProcessTable table, TimelineSink sink) {
+        this(table, sink, 0);
+    }
+
+    /**
+     * Estado de um núcleo em uma simulação com vários núcleos
+     */
+    public SimulationState(ProcessTable table, TimelineSink sink, int core) {
+        this.table = table;
+        this.sink = sink;
+        this.core = core;
+        this.cores = null;
+    }
+
+    /**
+     * Estado agregado de uma simulação com vários núcleos: contadores, totais e histogramas
+     * somados, e o tempo atual é o do núcleo que terminou por último
+     */
+    public SimulationState(ProcessTable table, SimulationState[] cores) {
+        this.table = table;
+        this.sink = null;
+        this.core = -1;
+        this.cores = cores;
+        for (SimulationState state : cores) {
+            currentTime = Math.max(currentTime, state.currentTime);
+            completedCount += state.completedCount;
+            dispatches += state.dispatches;
+            contextSwitches += state.contextSwitches;
+            migrations += state.migrations;
+            busyTime += state.busyTime;
+            totalTurnaround += state.totalTurnaround;
+            totalWaiting += state.totalWaiting;
+            waitingTimes.add(state.waitingTimes);
+            turnaroundTimes.add(state.turnaroundTimes);
+            responseTimes.add(state.responseTimes);
+        }
+    }
+
+    /**
+     * Admite na política todos os processos que já chegaram até o tempo atual.
+     * Cada processo é visitado uma única vez ao longo da simulação.
+     */
+    public void admitArrivals(DispatchPolicy policy) {
+        while (nextArrival < table.size() && table.getArrivalTime(nextArrival) <= currentTime) {
+            policy.add(nextArrival++);
+        }
+    }
+
+    /**
+     * Instante da próxima chegada, ou Integer.MAX_VALUE se não houver mais chegadas
+     */
+    public int nextArrivalTime() {
+        return nextArrival < table.size() ? table.getArrivalTime(nextArrival) : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Avança o tempo com a CPU ociosa até a próxima chegada.
+     * O intervalo é registrado como uma única entrada no timeline com processId 0.
+     */
+    public void idleUntilNextArrival() {
+        idleUntil(nextArrivalTime());
+    }
+
+    /**
+     * Avança o tempo com o processador ocioso até o instante informado (se for posterior)
+     */
+    public void idleUntil(int time) {
+        closeSlice();
+        if (time > currentTime) {
+            sink.slice(currentTime, time, 0, core);
+            currentTime = time;
+        }
+    }
+
+    /**
+     * Coloca um processo no processador: conta a troca de contexto, define o tempo
+     * de resposta e abre uma nova fatia (ou continua a fatia do mesmo processo)
+     */
+    public void dispatch(int process) {
+        dispatches++;
+        if (currentProcess != -1 && currentProcess != process) {
+            contextSwitches++;
+        }
+
+        if (table.getResponseTime(process) == -1) {
+            table.setResponseTime(process, currentTime - table.getArrivalTime(process));
+        }
+
+        if (sliceStart == -1 || currentProcess != process) {
+            closeSlice();
+            sliceStart = currentTime;
+        }
+        currentProcess = process;
+    }
+
+    /**
+     * Executa o processo atual por uma quantidade de unidades de tempo
+     */
+    public void run(int timeUnits) {
+        table.execute(currentProcess, timeUnits);
+        currentTime += timeUnits;
+        busyTime += timeUnits;
+    }
+
+    /**
+     * Conta um processo migrado de outro núcleo para este
+     */
+    public void migrate() {
+        migrations++;
+    }
+
+    /**
+     * Marca o processo atual como concluído no tempo atual, acumulando suas métricas
+     */
+    public void complete() {
+        table.complete(currentProcess, currentTime);
+        completedCount++;
+
+        int turnaroundTime = currentTime - table.getArrivalTime(currentProcess);
+        int waitingTime = turnaroundTime - table.getBurstTime(currentProcess);
+        totalTurnaround += turnaroundTime;
+        totalWaiting += waitingTime;
+        turnaroundTimes.record(turnaroundTime);
+        waitingTimes.record(waitingTime);
+        responseTimes.record(table.getResponseTime(currentProcess));
+    }
+
+    /**
+     * Fecha a fatia em aberto, emitindo a entrada no timeline
+     */
+    public void closeSlice() {
+        if (sliceStart != -1 && sliceStart < currentTime) {
+            sink.slice(sliceStart, currentTime, table.getId(currentProcess), core);
+        }
+        sliceStart = -1;
+    }
+
+    public boolean isFinished() { return completedCount == table.size(); }
+
+    public int getCurrentTime() { return currentTime; }
+
+    public int getCurrentProcess() { return currentProcess; }
+
+    public int getCompletedCount() { return completedCount; }
+
+    public int getDispatches() { return dispatches; }
+
+    public int getContextSwitches() { return contextSwitches; }
+
+    public int getMigrations() { return migrations; }
+
+    public long getBusyTime() { return busyTime; }
+
+    public int getCore() { return core; }
+
+    /**
+     * Estados de cada núcleo (o próprio estado em simulações com um núcleo)
+     */
+    public SimulationState[] getCores() {
+        return cores != null ? cores : new SimulationState[] {this};
+    }
+
+    /**
+     * Tempo médio de vida (0 numa carga vazia, para não gerar NaN no JSON)
+     */
+    public double getAverageTurnaroundTime() {
+        return table.size() > 0 ? (double) totalTurnaround / table.size() : 0;
+    }
+
+    /**
+     * Tempo médio de espera (0 numa carga vazia)
+     */
+    public double getAverageWaitingTime() {
+        return table.size() > 0 ? (double) totalWaiting / table.size() : 0;
+    }
+
+    public LatencyHistogram getWaitingTimes() { return waitingTimes; }
+
+    public LatencyHistogram getTurnaroundTimes() { return turnaroundTimes; }
+
+    public LatencyHistogram getResponseTimes() { return responseTimes; }
+}
@@ -0,0 +1,54 @@
+package com.example.p2so.scheduler;
+
+import com.example.p2so.model.ReadyIntervals;
+import com.example.p2so.model.TimelineEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Coleta as fatias do timeline em memória, em colunas de inteiros.
+ * As entradas (imutáveis) só são criadas ao final, quando os estados de espera
+ * já podem ser derivados dos tempos de conclusão.
+ */
+public class TimelineBuffer implements TimelineSink {
+    private int[] slices = new int[3 * 64];  // (início, fim, processId) de cada fatia
+    private int[] cores;                     // Núcleo de cada fatia (null enquanto todas forem do núcleo 0)
+    private int size;
+
+    @Override
+    public void slice(int startTime, int endTime, int processId) {
+        if (size + 3 > slices.length) {
+            slices = Arrays.copyOf(slices, slices.length * 2);
+        }
+        slices[size++] = startTime;
+        slices[size++] = endTime;
+        slices[size++] = processId;
+    }
+
+    @Override
+    public void slice(int startTime, int endTime, int processId, int core) {
+        if (core != 0 && cores == null) {
+            cores = new int[slices.length / 3];
+        }
+        if (cores != null) {
+            if (size / 3 == cores.length) {
+                cores = Arrays.copyOf(cores, cores.length * 2);
+            }
+            cores[size / 3] = core;
+        }
+        slice(startTime, endTime, processId);
+    }
+
+    /**
+     * Cria as entradas do timeline, todas compartilhando os mesmos intervalos de espera
+     */
+    public List<TimelineEntry> toEntries(ReadyIntervals readyIntervals) {
+        List<TimelineEntry> timeline = new ArrayList<>(size / 3);
+        for (int i = 0; i < size; i += 3) {
+            int core = cores != null ? cores[i / 3] : 0;
+            timeline.add(new TimelineEntry(slices[i], slices[i + 1], slices[i + 2], core, readyIntervals));
+        }
+        return timeline;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.p2so.scheduler;
+
+/**
+ * Destino das fatias do timeline produzidas pelo núcleo de simulação.
+ * Permite coletar o timeline em memória ou escrevê-lo à medida que é gerado.
+ */
+@FunctionalInterface
+public interface TimelineSink {
+
+    /**
+     * Recebe uma fatia concluída, em ordem de tempo
+     * @param processId ID do processo que executou (0 se CPU ociosa)
+     */
+    void slice(int startTime, int endTime, int processId);
+
+    /**
+     * Recebe uma fatia concluída em um núcleo. Com vários núcleos, as fatias chegam
+     * em ordem de término (fatias de núcleos diferentes se sobrepõem no tempo).
+     * Por padrão o núcleo é ignorado.
+     * @param core Núcleo em que a fatia executou (0 em simulações com um núcleo)
+     */
+    default void slice(int startTime, int endTime, int processId, int core) {
+        slice(startTime, endTime, processId);
+    }
+}
@@ -1,40 +1,64 @@
 package com.example.p2so.service;
 
 import com.example.p2so.model.Configuration;
+import jakarta.annotation.PreDestroy;
 import org.springframework.stereotype.Service;
 import java.io.*;
 import java.nio.file.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Serviço responsável por gerenciar a configuração do simulador.
- * Lê e escreve o arquivo config.txt com os valores de quantum e aging.
+ * Lê e escreve o arquivo config.txt com os valores de quantum, aging e núcleos.
+ *
+ * A configuração padrão é um snapshot imutável trocado atomicamente: leituras não
+ * bloqueiam e nunca veem uma configuração pela metade. A gravação em disco é feita
+ * em segundo plano (write-behind); atualizações em sequência rápida resultam em uma
+ * única gravação com o valor mais recente.
  */
 @Service
 public class ConfigurationService {
     private static final String CONFIG_FILE = "config.txt";
-    private Configuration configuration;
+    private final Path file;
+    private final AtomicReference<Configuration> configuration = new AtomicReference<>();
+    private final AtomicBoolean savePending = new AtomicBoolean();
+    private final ExecutorService writer;
 
     public ConfigurationService() {
-        this.configuration = loadConfiguration();
+        this(Paths.get(CONFIG_FILE),
+             Executors.newSingleThreadExecutor(Thread.ofPlatform().name("config-writer").daemon().factory()));
+    }
+
+    /**
+     * Construtor com o arquivo e a thread de gravação informados (usado nos testes)
+     * @param writer Executor de uma única thread, encerrado em shutdown()
+     */
+    ConfigurationService(Path file, ExecutorService writer) {
+        this.file = file;
+        this.writer = writer;
+        this.configuration.set(loadConfiguration());
     }
 
     /**
      * Carrega a configuração do arquivo config.txt
      * Se o arquivo não existir, cria um com valores padrão
      */
-    public Configuration loadConfiguration() {
-        File file = new File(CONFIG_FILE);
-
-        if (!file.exists()) {
+    public final Configuration loadConfiguration() {
+        if (!Files.exists(file)) {
             Configuration defaultConfig = new Configuration(2, 1);
             saveConfiguration(defaultConfig);
             return defaultConfig;
         }
 
         try {
-            String content = Files.readString(file.toPath());
+            String content = Files.readString(file);
             int quantum = 2;
             int aging = 1;
+            int cores = 1;
 
             String[] lines = content.split("\n");
             for (String line : lines) {
@@ -43,11 +67,13 @@ public class ConfigurationService {
                     quantum = Integer.parseInt(line.substring(8).trim());
                 } else if (line.startsWith("aging:")) {
                     aging = Integer.parseInt(line.substring(6).trim());
+                } else if (line.startsWith("cores:")) {
+                    cores = Integer.parseInt(line.substring(6).trim());
                 }
             }
 
-            return new Configuration(quantum, aging);
-        } catch (IOException | NumberFormatException e) {
+            return new Configuration(quantum, aging, cores);
+        } catch (IOException | IllegalArgumentException e) {
             System.err.println("Erro ao ler configuração: " + e.getMessage());
             return new Configuration(2, 1);
         }
@@ -56,30 +82,52 @@ public class ConfigurationService {
     /**
      * Salva a configuração no arquivo config.txt
      */
-    public void saveConfiguration(Configuration config) {
+    public final void saveConfiguration(Configuration config) {
         try {
-            String content = String.format("quantum:%d\naging:%d\n",
+            String content = String.format("quantum:%d\naging:%d\ncores:%d\n",
                                          config.getQuantum(),
-                                         config.getAgingRate());
-            Files.writeString(Paths.get(CONFIG_FILE), content);
-            this.configuration = config;
+                                         config.getAgingRate(),
+                                         config.getCores());
+            Files.writeString(file, content);
         } catch (IOException e) {
             System.err.println("Erro ao salvar configuração: " + e.getMessage());
         }
     }
 
     /**
-     * Retorna a configuração atual
+     * Retorna a configuração padrão atual (snapshot imutável)
      */
     public Configuration getConfiguration() {
-        return configuration;
+        return configuration.get();
     }
 
     /**
-     * Atualiza a configuração
+     * Atualiza a configuração padrão. A nova configuração vale imediatamente;
+     * o arquivo é gravado em segundo plano.
+     * @throws IllegalArgumentException se os valores forem inválidos
      */
     public void updateConfiguration(int quantum, int aging) {
-        Configuration newConfig = new Configuration(quantum, aging);
-        saveConfiguration(newConfig);
+        updateConfiguration(quantum, aging, configuration.get().getCores());
+    }
+
+    public void updateConfiguration(int quantum, int aging, int cores) {
+        configuration.set(new Configuration(quantum, aging, cores));
+
+        // Agenda uma gravação apenas se não houver outra pendente; ela gravará o valor mais recente
+        if (savePending.compareAndSet(false, true)) {
+            writer.execute(() -> {
+                savePending.set(false);
+                saveConfiguration(configuration.get());
+            });
+        }
+    }
+
+    /**
+     * Conclui a gravação pendente antes de encerrar
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(5, TimeUnit.SECONDS);
     }
 }
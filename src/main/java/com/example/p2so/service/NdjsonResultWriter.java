@@ -0,0 +1,164 @@
+package com.example.p2so.service;
+
+import com.example.p2so.scheduler.LatencyHistogram;
+import com.example.p2so.scheduler.ProcessTable;
+import com.example.p2so.scheduler.Scheduler;
+import com.example.p2so.scheduler.SimulationState;
+import com.example.p2so.scheduler.TimelineSink;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Escreve os resultados da simulação em JSON delimitado por linhas (NDJSON),
+ * à medida que são produzidos. Para cada algoritmo são escritas as linhas:
+ *
+ *   {"type":"algorithm", ...}   início do algoritmo
+ *   {"type":"slice", ...}       uma por fatia do timeline, em ordem de tempo
+ *   {"type":"process", ...}     métricas de cada processo
+ *   {"type":"summary", ...}     médias, percentis e trocas de contexto
+ *
+ * Com vários núcleos, cada fatia traz o núcleo ("core") e o resumo traz as migrações
+ * e as métricas de cada núcleo; as fatias saem na ordem em que terminam.
+ *
+ * Nenhuma fatia fica em memória, então o uso de memória não depende do tamanho do timeline.
+ * Os processos em espera numa fatia são os que chegaram antes do seu fim e concluíram
+ * depois do seu início (ver ReadyIntervals).
+ */
+public class NdjsonResultWriter implements TimelineSink {
+    private final Writer out;
+    private boolean multicore;  // Se as fatias do algoritmo atual trazem o núcleo
+
+    public NdjsonResultWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Linha inicial com o tamanho da carga e as linhas descartadas na leitura
+     */
+    public void writeWorkload(int processCount, int malformedCount, List<Integer> malformedLines)
+            throws IOException {
+        out.write("{\"type\":\"workload\",\"processCount\":" + processCount
+                  + ",\"malformedCount\":" + malformedCount
+                  + ",\"malformedLines\":" + malformedLines.toString().replace(" ", "") + "}\n");
+    }
+
+    /**
+     * Linha de erro; encerra o fluxo do ponto de vista do cliente
+     */
+    public void writeError(String message) throws IOException {
+        out.write("{\"type\":\"error\",\"error\":" + quote(message) + "}\n");
+        out.flush();
+    }
+
+    /**
+     * Executa o algoritmo escrevendo o timeline durante a simulação e,
+     * ao final, as métricas de cada processo e o resumo
+     * @return Estado final da simulação
+     */
+    public SimulationState write(Scheduler scheduler, ProcessTable table) throws IOException {
+        String algorithm = quote(scheduler.getAlgorithmName());
+        out.write("{\"type\":\"algorithm\",\"algorithm\":" + algorithm + "}\n");
+
+        multicore = scheduler.getCores() > 1;
+        SimulationState state;
+        try {
+            state = scheduler.simulate(table, this);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();  // Cliente desconectou
+        }
+
+        for (int p = 0; p < table.size(); p++) {
+            int turnaroundTime = table.getCompletionTime(p) - table.getArrivalTime(p);
+            int waitingTime = turnaroundTime - table.getBurstTime(p);
+
+            out.write("{\"type\":\"process\",\"processId\":" + table.getId(p)
+                      + ",\"arrivalTime\":" + table.getArrivalTime(p)
+                      + ",\"burstTime\":" + table.getBurstTime(p)
+                      + ",\"completionTime\":" + table.getCompletionTime(p)
+                      + ",\"turnaroundTime\":" + turnaroundTime
+                      + ",\"waitingTime\":" + waitingTime
+                      + ",\"responseTime\":" + table.getResponseTime(p) + "}\n");
+        }
+
+        out.write("{\"type\":\"summary\",\"algorithm\":" + algorithm
+                  + ",\"averageTurnaroundTime\":" + state.getAverageTurnaroundTime()
+                  + ",\"averageWaitingTime\":" + state.getAverageWaitingTime()
+                  + ",\"waitingTimePercentiles\":" + percentiles(state.getWaitingTimes())
+                  + ",\"turnaroundTimePercentiles\":" + percentiles(state.getTurnaroundTimes())
+                  + ",\"responseTimePercentiles\":" + percentiles(state.getResponseTimes())
+                  + ",\"contextSwitches\":" + state.getContextSwitches()
+                  + (multicore ? cores(state) : "") + "}\n");
+        out.flush();
+        return state;
+    }
+
+    @Override
+    public void slice(int startTime, int endTime, int processId) {
+        slice(startTime, endTime, processId, -1);
+    }
+
+    @Override
+    public void slice(int startTime, int endTime, int processId, int core) {
+        try {
+            out.write("{\"type\":\"slice\",\"startTime\":");
+            out.write(Integer.toString(startTime));
+            out.write(",\"endTime\":");
+            out.write(Integer.toString(endTime));
+            out.write(",\"processId\":");
+            out.write(Integer.toString(processId));
+            if (multicore) {
+                out.write(",\"core\":");
+                out.write(Integer.toString(core));
+            }
+            out.write("}\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String cores(SimulationState state) {
+        StringBuilder sb = new StringBuilder(",\"migrations\":").append(state.getMigrations())
+            .append(",\"coreMetrics\":[");
+        for (SimulationState core : state.getCores()) {
+            if (core.getCore() > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"core\":").append(core.getCore())
+              .append(",\"busyTime\":").append(core.getBusyTime())
+              .append(",\"utilization\":").append(state.getCurrentTime() > 0
+                                                     ? (double) core.getBusyTime() / state.getCurrentTime() : 0)
+              .append(",\"contextSwitches\":").append(core.getContextSwitches())
+              .append(",\"migrations\":").append(core.getMigrations()).append('}');
+        }
+        return sb.append(']').toString();
+    }
+
+    private static String percentiles(LatencyHistogram histogram) {
+        return "{\"p50\":" + histogram.percentile(50) + ",\"p90\":" + histogram.percentile(90)
+               + ",\"p99\":" + histogram.percentile(99) + ",\"max\":" + histogram.getMax() + "}";
+    }
+
+    /**
+     * Converte um texto em string JSON, escapando aspas, barras e caracteres de controle
+     * (null se não houver texto, ex.: exceção sem mensagem)
+     */
+    private static String quote(String text) {
+        if (text == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
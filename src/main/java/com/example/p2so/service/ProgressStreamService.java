@@ -0,0 +1,88 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Configuration;
+import com.example.p2so.model.Workload;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Serviço de acompanhamento de simulações por Server-Sent Events.
+ * A simulação executa no pool limitado dos jobs; cada cliente tem sua própria virtual thread,
+ * que envia o progresso acumulado a cada intervalo. Assim a simulação nunca espera pelo
+ * cliente, e um cliente lento atrasa apenas o próprio envio.
+ */
+@Service
+public class ProgressStreamService {
+    private final SchedulerService schedulerService;
+    private final SimulationJobService jobService;
+    private final long intervalMillis;
+    private final int maxPendingSlices;
+    private final long timeoutMillis;
+    private final Set<Thread> senders = ConcurrentHashMap.newKeySet();
+
+    public ProgressStreamService(SchedulerService schedulerService, SimulationJobService jobService,
+                                 @Value("${p2so.sse.interval-ms:250}") long intervalMillis,
+                                 @Value("${p2so.sse.max-pending-slices:10000}") int maxPendingSlices,
+                                 @Value("${p2so.sse.timeout-ms:600000}") long timeoutMillis) {
+        this.schedulerService = schedulerService;
+        this.jobService = jobService;
+        this.intervalMillis = intervalMillis;
+        this.maxPendingSlices = maxPendingSlices;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Inicia a simulação de todos os algoritmos e retorna o emitter que transmite o progresso
+     * @throws RejectedExecutionException se a fila de simulações estiver cheia
+     */
+    public SseEmitter start(Workload workload, Configuration config) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        SseProgressPublisher publisher = new SseProgressPublisher(emitter, workload.size(), maxPendingSlices);
+
+        Future<?> simulation = jobService.execute(() -> {
+            try {
+                schedulerService.publishAllSchedulers(workload, config, publisher);
+                publisher.finish(null);
+            } catch (RuntimeException e) {
+                publisher.finish("Erro ao executar simulação: " + e.getMessage());
+            }
+        });
+
+        Thread sender = Thread.ofVirtual().name("sse-progress").unstarted(() -> {
+            try {
+                do {
+                    Thread.sleep(intervalMillis);
+                } while (!publisher.flush());
+            } catch (Exception e) {
+                // Cliente desconectou, emitter encerrado (timeout, erro ou conclusão) ou serviço
+                // parando (interrupção): interrompe a simulação
+                simulation.cancel(true);
+            } finally {
+                senders.remove(Thread.currentThread());
+            }
+        });
+
+        Runnable stop = () -> {
+            simulation.cancel(true);
+            sender.interrupt();
+        };
+        emitter.onTimeout(stop);
+        emitter.onError(e -> stop.run());
+        emitter.onCompletion(stop);
+
+        senders.add(sender);
+        sender.start();
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Thread sender : senders) {
+            sender.interrupt();
+        }
+    }
+}
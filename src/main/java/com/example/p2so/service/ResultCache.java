@@ -0,0 +1,119 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Configuration;
+import com.example.p2so.model.SchedulerResult;
+import com.example.p2so.model.Workload;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache LRU de resultados de escalonamento, limitado pelo número de entradas e pelo
+ * peso total: processos da carga de cada chave mais o peso de cada resultado (fatias,
+ * métricas por processo e estruturas por processo, ver SchedulerResult.weight).
+ * Os índices criados nas consultas aumentam o peso, que é recalculado a cada acesso.
+ * A chave é a carga (comparada pelo conteúdo, com hash calculado uma vez por carga),
+ * o algoritmo e os valores de quantum, aging e núcleos. Os resultados são imutáveis e podem
+ * ser entregues a vários chamadores.
+ */
+public class ResultCache {
+
+    /**
+     * Chave do cache
+     */
+    private record Key(Workload workload, String algorithm, int quantum, int agingRate, int cores) {
+        Key(Workload workload, String algorithm, Configuration config) {
+            this(workload, algorithm, config.getQuantum(), config.getAgingRate(), config.getCores());
+        }
+    }
+
+    private record Entry(SchedulerResult result, long weight) {
+    }
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);  // Ordem de acesso
+    private long weight;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ResultCache(int maxEntries, long maxWeight) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Busca um resultado, contando acerto ou falha
+     * @return Resultado em cache, ou null se não houver
+     */
+    public SchedulerResult get(Workload workload, String algorithm, Configuration config) {
+        Entry entry;
+        synchronized (this) {
+            Key key = new Key(workload, algorithm, config);
+            entry = entries.get(key);
+            if (entry != null) {
+                // O índice do timeline pode ter sido criado depois do armazenamento
+                long current = weight(workload, entry.result());
+                if (current != entry.weight()) {
+                    entries.put(key, new Entry(entry.result(), current));
+                    weight += current - entry.weight();
+                    evict();
+                }
+            }
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.result();
+    }
+
+    /**
+     * Armazena um resultado, removendo os menos usados recentemente até caber nos limites.
+     * Resultados mais pesados que o limite total não são armazenados.
+     */
+    public void put(Workload workload, String algorithm, Configuration config, SchedulerResult result) {
+        long resultWeight = weight(workload, result);
+        if (maxEntries <= 0 || resultWeight > maxWeight) {
+            return;
+        }
+
+        synchronized (this) {
+            Entry previous = entries.put(new Key(workload, algorithm, config),
+                                         new Entry(result, resultWeight));
+            if (previous != null) {
+                weight -= previous.weight();
+            }
+            weight += resultWeight;
+            evict();
+        }
+    }
+
+    /**
+     * Remove os menos usados recentemente até caber nos limites
+     */
+    private void evict() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries || weight > maxWeight) {
+            weight -= eldest.next().weight();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Peso de uma entrada: a carga da chave e o resultado
+     */
+    private static long weight(Workload workload, SchedulerResult result) {
+        return workload.size() + result.weight();
+    }
+
+    public long getHits() { return hits.get(); }
+
+    public long getMisses() { return misses.get(); }
+
+    public synchronized int size() { return entries.size(); }
+
+    public synchronized long weight() { return weight; }
+}
@@ -2,47 +2,211 @@ package com.example.p2so.service;
 
 import com.example.p2so.model.*;
 import com.example.p2so.scheduler.*;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Serviço principal que gerencia a execução dos algoritmos de escalonamento
  */
 @Service
 public class SchedulerService {
+    public static final int MAX_SWEEP_POINTS = 10_000;  // Limite de pontos por varredura
+
     private final ConfigurationService configService;
+    private final SimulationMetrics metrics;
+    private final long timeoutMillis;
+    private final int maxProcessMetrics;
+    private final ResultCache cache;
 
-    public SchedulerService(ConfigurationService configService) {
+    public SchedulerService(ConfigurationService configService, SimulationMetrics metrics,
+                            @Value("${p2so.simulation.timeout-ms:60000}") long timeoutMillis,
+                            @Value("${p2so.cache.max-entries:256}") int cacheMaxEntries,
+                            @Value("${p2so.cache.max-weight:5000000}") long cacheMaxWeight,
+                            @Value("${p2so.result.max-process-metrics:100000}") int maxProcessMetrics) {
         this.configService = configService;
+        this.metrics = metrics;
+        this.timeoutMillis = timeoutMillis;
+        this.maxProcessMetrics = maxProcessMetrics;
+        this.cache = new ResultCache(cacheMaxEntries, cacheMaxWeight);
     }
 
     /**
-     * Executa todos os algoritmos de escalonamento para uma lista de processos
+     * Executa todos os algoritmos de escalonamento para uma lista de processos.
+     * Os algoritmos executam em paralelo (uma virtual thread cada) sobre a mesma carga,
+     * somente leitura; os resultados mantêm a ordem da lista de algoritmos.
+     * Se o tempo limite for excedido, as simulações pendentes são canceladas.
      */
     public Map<String, SchedulerResult> runAllSchedulers(List<ProcessTask> processes) {
+        return runAllSchedulers(Workload.of(processes));
+    }
+
+    /**
+     * Executa todos os algoritmos de escalonamento para uma carga já em colunas,
+     * com a configuração padrão
+     */
+    public Map<String, SchedulerResult> runAllSchedulers(Workload workload) {
+        return runAllSchedulers(workload, configService.getConfiguration());
+    }
+
+    /**
+     * Executa todos os algoritmos de escalonamento com a configuração informada.
+     * Resultados já calculados para a mesma carga e configuração vêm do cache.
+     */
+    public Map<String, SchedulerResult> runAllSchedulers(Workload workload, Configuration config) {
         Map<String, SchedulerResult> results = new LinkedHashMap<>();
-        Configuration config = configService.getConfiguration();
+        List<Scheduler> schedulers = createSchedulers(config);
 
-        // Lista de todos os schedulers
-        List<Scheduler> schedulers = Arrays.asList(
-            new FCFSScheduler(config),
-            new SJFScheduler(config),
-            new SRTFScheduler(config),
-            new PriorityNonPreemptiveScheduler(config),
-            new PriorityPreemptiveScheduler(config),
-            new RoundRobinScheduler(config),
-            new RoundRobinPriorityScheduler(config)
-        );
+        // Carga compartilhada somente leitura; cada scheduler cria sua própria ProcessTable
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<SchedulerResult>> futures = new ArrayList<>();
+            for (Scheduler scheduler : schedulers) {
+                SchedulerResult cached = cache.get(workload, scheduler.getAlgorithmName(), config);
+                futures.add(cached != null
+                    ? CompletableFuture.completedFuture(cached)
+                    : executor.submit(() -> {
+                        SchedulerResult result = schedule(scheduler, workload);
+                        // Resultado concluído após o cancelamento (prazo excedido) não entra no cache
+                        if (!Thread.currentThread().isInterrupted()) {
+                            cache.put(workload, scheduler.getAlgorithmName(), config, result);
+                        }
+                        return result;
+                    }));
+            }
 
-        // Executa cada scheduler
-        for (Scheduler scheduler : schedulers) {
-            SchedulerResult result = scheduler.schedule(processes);
-            results.put(scheduler.getAlgorithmName(), result);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            try {
+                for (int i = 0; i < schedulers.size(); i++) {
+                    String algorithm = schedulers.get(i).getAlgorithmName();
+                    results.put(algorithm, await(futures.get(i), deadline, algorithm));
+                }
+            } finally {
+                // Cancela (interrompe) o que ainda estiver executando
+                for (Future<SchedulerResult> future : futures) {
+                    future.cancel(true);
+                }
+            }
         }
 
         return results;
     }
 
+    /**
+     * Varre a grade quantum × aging com os algoritmos Round-Robin e Round-Robin com Prioridade,
+     * sem gerar timelines. O Round-Robin não usa aging, então executa uma vez por quantum.
+     * Os pontos são distribuídos entre os núcleos; cada worker reutiliza uma ProcessTable.
+     * @param config Configuração de base de cada ponto (núcleos), com o quantum e o aging do ponto
+     * @return Pontos na ordem da grade (Round-Robin primeiro), com os ótimos de Pareto marcados
+     * @throws IllegalArgumentException se a grade exceder o limite de pontos
+     */
+    public List<SweepPoint> sweep(Workload workload, Configuration config, int[] quanta, int[] agingRates) {
+        if ((long) quanta.length * (agingRates.length + 1) > MAX_SWEEP_POINTS) {
+            throw new IllegalArgumentException("Grade muito grande (máximo " + MAX_SWEEP_POINTS + " pontos)");
+        }
+
+        List<SweepTask> tasks = new ArrayList<>();
+        for (int quantum : quanta) {
+            tasks.add(new SweepTask("ROUND_ROBIN", quantum, null,
+                                    new RoundRobinScheduler(config.with(quantum, 0))));
+        }
+        for (int quantum : quanta) {
+            for (int agingRate : agingRates) {
+                tasks.add(new SweepTask("ROUND_ROBIN_PRIORITY", quantum, agingRate,
+                                        new RoundRobinPriorityScheduler(config.with(quantum, agingRate))));
+            }
+        }
+
+        int n = tasks.size();
+        double[] turnaround = new double[n];
+        double[] waiting = new double[n];
+        int[] contextSwitches = new int[n];
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(n, Runtime.getRuntime().availableProcessors());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int w = 0; w < workers; w++) {
+                futures.add(executor.submit(() -> {
+                    ProcessTable table = new ProcessTable(workload);
+                    for (int i = next.getAndIncrement(); i < n; i = next.getAndIncrement()) {
+                        Scheduler scheduler = tasks.get(i).scheduler();
+                        Timer.Sample sample = metrics.start();
+                        SimulationState state = scheduler.simulate(table, (start, end, id) -> { });
+                        metrics.recordScheduler(sample, scheduler);
+                        metrics.recordSimulation(scheduler, state);
+                        turnaround[i] = state.getAverageTurnaroundTime();
+                        waiting[i] = state.getAverageWaitingTime();
+                        contextSwitches[i] = state.getContextSwitches();
+                    }
+                    return null;
+                }));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            try {
+                for (Future<Void> future : futures) {
+                    await(future, deadline, "varredura");
+                }
+            } finally {
+                for (Future<Void> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+
+        // Ótimo de Pareto: nenhum outro ponto é melhor ou igual nas três métricas e melhor em alguma
+        List<SweepPoint> points = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            boolean dominated = false;
+            for (int j = 0; j < n && !dominated; j++) {
+                dominated = turnaround[j] <= turnaround[i] && waiting[j] <= waiting[i]
+                    && contextSwitches[j] <= contextSwitches[i]
+                    && (turnaround[j] < turnaround[i] || waiting[j] < waiting[i]
+                        || contextSwitches[j] < contextSwitches[i]);
+            }
+            SweepTask task = tasks.get(i);
+            points.add(new SweepPoint(task.algorithm(), task.quantum(), task.agingRate(),
+                                      turnaround[i], waiting[i], contextSwitches[i], !dominated));
+        }
+        return points;
+    }
+
+    private record SweepTask(String algorithm, int quantum, Integer agingRate, Scheduler scheduler) {
+    }
+
+    /**
+     * Executa todos os algoritmos em sequência, escrevendo os resultados em NDJSON
+     * durante a simulação. Uma única ProcessTable é reutilizada entre os algoritmos.
+     */
+    public void streamAllSchedulers(Workload workload, Configuration config, NdjsonResultWriter writer)
+            throws IOException {
+        ProcessTable table = new ProcessTable(workload);
+        for (Scheduler scheduler : createSchedulers(config)) {
+            Timer.Sample sample = metrics.start();
+            SimulationState state = writer.write(scheduler, table);
+            metrics.recordScheduler(sample, scheduler);
+            metrics.recordSimulation(scheduler, state);
+        }
+    }
+
+    /**
+     * Executa todos os algoritmos em sequência, publicando o progresso de cada um
+     * (ver SseProgressPublisher). Uma única ProcessTable é reutilizada entre os algoritmos.
+     */
+    public void publishAllSchedulers(Workload workload, Configuration config, SseProgressPublisher publisher) {
+        ProcessTable table = new ProcessTable(workload);
+        for (Scheduler scheduler : createSchedulers(config)) {
+            Timer.Sample sample = metrics.start();
+            SimulationState state = publisher.run(scheduler, table);
+            metrics.recordScheduler(sample, scheduler);
+            metrics.recordSimulation(scheduler, state);
+        }
+    }
+
     /**
      * Executa um algoritmo específico
      */
@@ -54,13 +218,73 @@ public class SchedulerService {
             throw new IllegalArgumentException("Algoritmo desconhecido: " + algorithm);
         }
 
-        return scheduler.schedule(processes);
+        Workload workload = Workload.of(processes);
+        String name = scheduler.getAlgorithmName();
+        SchedulerResult result = cache.get(workload, name, config);
+        if (result == null) {
+            result = schedule(scheduler, workload);
+            cache.put(workload, name, config, result);
+        }
+        return result;
+    }
+
+    /**
+     * Cache de resultados (para consultar acertos e falhas)
+     */
+    public ResultCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Executa um algoritmo registrando seu tempo e os contadores do núcleo (ver SimulationMetrics).
+     * Acima de p2so.result.max-process-metrics processos, o resultado traz apenas médias e percentis.
+     */
+    private SchedulerResult schedule(Scheduler scheduler, Workload workload) {
+        Timer.Sample sample = metrics.start();
+        try {
+            return scheduler.schedule(new ProcessTable(workload), metrics.listener(scheduler),
+                                      workload.size() <= maxProcessMetrics);
+        } finally {
+            metrics.recordScheduler(sample, scheduler);
+        }
+    }
+
+    /**
+     * Aguarda o resultado de uma simulação até o prazo
+     * @throws IllegalStateException se o prazo for excedido, a simulação falhar ou a espera for interrompida
+     */
+    private <T> T await(Future<T> future, long deadline, String name) {
+        try {
+            return future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Tempo limite de " + timeoutMillis + " ms excedido em " + name);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erro em " + name + ": " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulação interrompida", e);
+        }
+    }
+
+    /**
+     * Lista de todos os schedulers, na ordem de exibição
+     */
+    private static List<Scheduler> createSchedulers(Configuration config) {
+        return Arrays.asList(
+            new FCFSScheduler(config),
+            new SJFScheduler(config),
+            new SRTFScheduler(config),
+            new PriorityNonPreemptiveScheduler(config),
+            new PriorityPreemptiveScheduler(config),
+            new RoundRobinScheduler(config),
+            new RoundRobinPriorityScheduler(config)
+        );
     }
 
     /**
      * Retorna o scheduler correspondente ao nome do algoritmo
      */
-    private Scheduler getScheduler(String algorithm, Configuration config) {
+    public static Scheduler getScheduler(String algorithm, Configuration config) {
         return switch (algorithm.toUpperCase()) {
             case "FCFS" -> new FCFSScheduler(config);
             case "SJF" -> new SJFScheduler(config);
@@ -74,32 +298,10 @@ public class SchedulerService {
     }
 
     /**
-     * Analisa a entrada de texto e cria a lista de processos
+     * Analisa a entrada de texto e cria a carga de trabalho.
+     * Linhas inválidas são descartadas (ver WorkloadParser).
      */
-    public List<ProcessTask> parseProcesses(String input) {
-        List<ProcessTask> processes = new ArrayList<>();
-        String[] lines = input.trim().split("\n");
-        int processId = 1;
-
-        for (String line : lines) {
-            line = line.trim();
-            if (line.isEmpty()) continue;
-
-            String[] parts = line.split("\\s+");
-            if (parts.length >= 3) {
-                try {
-                    int arrivalTime = Integer.parseInt(parts[0]);
-                    int burstTime = Integer.parseInt(parts[1]);
-                    int priority = Integer.parseInt(parts[2]);
-
-                    ProcessTask process = new ProcessTask(processId++, arrivalTime, burstTime, priority);
-                    processes.add(process);
-                } catch (NumberFormatException e) {
-                    System.err.println("Erro ao parsear linha: " + line);
-                }
-            }
-        }
-
-        return processes;
+    public Workload parseWorkload(String input) {
+        return new WorkloadParser().parse(input);
     }
 }
@@ -0,0 +1,116 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Configuration;
+import com.example.p2so.model.SimulationJob;
+import com.example.p2so.model.Workload;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+/**
+ * Serviço de simulações assíncronas. Os jobs executam num pool de threads limitado,
+ * com fila limitada: quando a fila está cheia a submissão é rejeitada
+ * (RejectedExecutionException), em vez de acumular trabalho.
+ * Jobs concluídos ficam disponíveis para consulta até expirarem (TTL).
+ */
+@Service
+public class SimulationJobService {
+    private final SchedulerService schedulerService;
+    private final long resultTtlMillis;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService cleaner;
+    private final Map<String, SimulationJob> jobs = new ConcurrentHashMap<>();
+
+    public SimulationJobService(SchedulerService schedulerService,
+                                @Value("${p2so.jobs.threads:0}") int threads,
+                                @Value("${p2so.jobs.queue-capacity:16}") int queueCapacity,
+                                @Value("${p2so.jobs.result-ttl-ms:600000}") long resultTtlMillis) {
+        this.schedulerService = schedulerService;
+        this.resultTtlMillis = resultTtlMillis;
+
+        // 0 threads = uma por processador
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                                               new ArrayBlockingQueue<>(queueCapacity),
+                                               daemonThreads("simulation-job"),
+                                               new ThreadPoolExecutor.AbortPolicy());
+
+        // Limpeza periódica dos jobs expirados
+        long period = Math.max(1000, Math.min(resultTtlMillis, 60_000));
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(daemonThreads("simulation-job-cleaner"));
+        this.cleaner.scheduleWithFixedDelay(this::removeExpired, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Submete uma simulação de todos os algoritmos
+     * @return Job criado, inicialmente na fila
+     * @throws RejectedExecutionException se a fila estiver cheia
+     */
+    public SimulationJob submit(Workload workload, Configuration config) {
+        SimulationJob job = new SimulationJob(UUID.randomUUID().toString(), workload.size(), config,
+                                              System.currentTimeMillis());
+        jobs.put(job.getId(), job);
+
+        try {
+            executor.execute(() -> run(job, workload, config));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+        return job;
+    }
+
+    /**
+     * Executa uma tarefa no mesmo pool limitado dos jobs
+     * @throws RejectedExecutionException se a fila estiver cheia
+     */
+    public Future<?> execute(Runnable task) {
+        return executor.submit(task);
+    }
+
+    /**
+     * Consulta um job
+     * @return Job, ou null se não existir ou já tiver expirado
+     */
+    public SimulationJob getJob(String id) {
+        return jobs.get(id);
+    }
+
+    private void run(SimulationJob job, Workload workload, Configuration config) {
+        job.start();
+        try {
+            job.complete(schedulerService.runAllSchedulers(workload, config), System.currentTimeMillis());
+        } catch (Throwable e) {
+            // Inclui Errors (ex.: OutOfMemoryError): o job não pode ficar em execução para sempre
+            job.fail("Erro ao executar simulação: " + e.getMessage(), System.currentTimeMillis());
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    private void removeExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<SimulationJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            SimulationJob job = iterator.next();
+            if (job.isFinished() && now - job.getFinishedAt() > resultTtlMillis) {
+                iterator.remove();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        cleaner.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return Thread.ofPlatform().name(name + "-", 1).daemon().factory();
+    }
+}
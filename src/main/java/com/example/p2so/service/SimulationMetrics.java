@@ -0,0 +1,128 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Workload;
+import com.example.p2so.scheduler.ProgressListener;
+import com.example.p2so.scheduler.Scheduler;
+import com.example.p2so.scheduler.SimulationState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Métricas de execução do simulador (Micrometer), expostas em /actuator/prometheus:
+ *
+ *   p2so.scheduler.duration            tempo de cada algoritmo (tag algorithm)
+ *   p2so.simulation.ticks              unidades de tempo simuladas (tag algorithm)
+ *   p2so.simulation.dispatches         decisões de despacho (tag algorithm)
+ *   p2so.simulation.context.switches   trocas de contexto (tag algorithm)
+ *   p2so.workload.parse                leitura da carga (tag format: text, binary)
+ *   p2so.workload.size                 processos por carga
+ *   p2so.result.serialize              escrita de resultados e cargas (tag format: json, binary)
+ *
+ * Os contadores são incrementados uma vez por simulação, a partir do estado final,
+ * e nunca dentro do laço do núcleo. A tag algorithm é o nome da classe sem o sufixo
+ * "Scheduler" (ex.: RoundRobin), para não criar uma série por quantum ou aging.
+ */
+@Component
+public class SimulationMetrics {
+    private final MeterRegistry registry;
+    private final DistributionSummary workloadSize;
+
+    public SimulationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.workloadSize = DistributionSummary.builder("p2so.workload.size")
+            .description("Processos por carga de trabalho")
+            .baseUnit("processes")
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    /**
+     * Inicia a medição de uma fase (ver recordScheduler, recordParse e recordSerialize)
+     */
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * Registra o tempo de execução de um algoritmo
+     */
+    public void recordScheduler(Timer.Sample sample, Scheduler scheduler) {
+        sample.stop(Timer.builder("p2so.scheduler.duration")
+            .description("Tempo de execução de cada algoritmo de escalonamento")
+            .tag("algorithm", algorithm(scheduler))
+            .register(registry));
+    }
+
+    /**
+     * Registra os contadores do núcleo a partir do estado final da simulação
+     */
+    public void recordSimulation(Scheduler scheduler, SimulationState state) {
+        String algorithm = algorithm(scheduler);
+        counter("p2so.simulation.ticks", "Unidades de tempo simuladas", algorithm)
+            .increment(state.getCurrentTime());
+        counter("p2so.simulation.dispatches", "Decisões de despacho", algorithm)
+            .increment(state.getDispatches());
+        counter("p2so.simulation.context.switches", "Trocas de contexto", algorithm)
+            .increment(state.getContextSwitches());
+    }
+
+    /**
+     * Listener que registra os contadores do núcleo ao final da simulação
+     */
+    public ProgressListener listener(Scheduler scheduler) {
+        return new ProgressListener() {
+            @Override
+            public void progress(int simulatedTime, int completedCount) { }
+
+            @Override
+            public void finished(SimulationState state) {
+                recordSimulation(scheduler, state);
+            }
+        };
+    }
+
+    /**
+     * Registra o tempo de leitura de uma carga e o seu tamanho
+     * @param format text (entrada em texto) ou binary (arquivo binário)
+     */
+    public void recordParse(Timer.Sample sample, String format, Workload workload) {
+        sample.stop(Timer.builder("p2so.workload.parse")
+            .description("Tempo de leitura da carga de trabalho")
+            .tag("format", format)
+            .register(registry));
+        recordWorkload(workload);
+    }
+
+    /**
+     * Registra o tamanho de uma carga que não foi lida (ex.: gerada)
+     */
+    public void recordWorkload(Workload workload) {
+        workloadSize.record(workload.size());
+    }
+
+    /**
+     * Registra o tempo de escrita de uma resposta ou carga
+     * @param format json (respostas) ou binary (arquivo binário)
+     */
+    public void recordSerialize(Timer.Sample sample, String format) {
+        sample.stop(Timer.builder("p2so.result.serialize")
+            .description("Tempo de escrita de resultados e cargas")
+            .tag("format", format)
+            .register(registry));
+    }
+
+    private static String algorithm(Scheduler scheduler) {
+        String name = scheduler.getClass().getSimpleName();
+        return name.endsWith("Scheduler") ? name.substring(0, name.length() - "Scheduler".length()) : name;
+    }
+
+    private Counter counter(String name, String description, String algorithm) {
+        return Counter.builder(name)
+            .description(description)
+            .tag("algorithm", algorithm)
+            .register(registry);
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.p2so.service;
+
+import com.example.p2so.scheduler.ProcessTable;
+import com.example.p2so.scheduler.ProgressListener;
+import com.example.p2so.scheduler.Scheduler;
+import com.example.p2so.scheduler.SimulationState;
+import com.example.p2so.scheduler.TimelineSink;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publica o progresso de uma simulação como Server-Sent Events.
+ *
+ * A thread da simulação apenas registra o progresso (último valor) e acumula as fatias
+ * num buffer limitado; o envio ao cliente é feito por outra thread, em flush(), a
+ * intervalos regulares. Assim um cliente lento recebe atualizações agrupadas e nunca
+ * bloqueia a simulação: o progresso intermediário é substituído pelo mais recente e, se o
+ * buffer de fatias encher, as fatias mais antigas do lote dão lugar às mais novas e são
+ * apenas contadas (campo "dropped").
+ *
+ * Eventos: "algorithm", "progress", "slices" (fatias como [início, fim, processId, ...]),
+ * "summary", "error" e "done".
+ */
+public class SseProgressPublisher implements TimelineSink, ProgressListener {
+    private final SseEmitter emitter;
+    private final int maxPendingSlices;
+    private final int processCount;
+
+    // Escritos pela thread da simulação, lidos em flush()
+    private volatile String algorithm;
+    private volatile int simulatedTime;
+    private volatile int completedCount;
+    private volatile boolean progressChanged;
+
+    // Protegidos por this
+    private int[] batch = new int[3 * 256];            // Fatias do algoritmo atual ainda não enviadas (circular)
+    private int batchStart;                             // Fatia mais antiga do lote
+    private int batchSize;                              // Fatias no lote
+    private int dropped;                                // Fatias descartadas no lote atual
+    private int pendingSlices;                          // Fatias aguardando envio (lote atual + outbox)
+    private final List<SseEmitter.SseEventBuilder> outbox = new ArrayList<>();  // Eventos em ordem
+    private boolean finished;
+
+    public SseProgressPublisher(SseEmitter emitter, int processCount, int maxPendingSlices) {
+        this.emitter = emitter;
+        this.processCount = processCount;
+        this.maxPendingSlices = maxPendingSlices;
+    }
+
+    /**
+     * Executa o algoritmo publicando o progresso e, ao final, o resumo
+     * @return Estado final da simulação
+     */
+    public SimulationState run(Scheduler scheduler, ProcessTable table) {
+        synchronized (this) {
+            sealBatch();
+            algorithm = scheduler.getAlgorithmName();
+            simulatedTime = 0;
+            completedCount = 0;
+            progressChanged = false;
+            outbox.add(event("algorithm", Map.of("algorithm", algorithm, "processCount", processCount)));
+        }
+
+        SimulationState state = scheduler.simulate(table, this, this);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("algorithm", scheduler.getAlgorithmName());
+        summary.put("averageTurnaroundTime", state.getAverageTurnaroundTime());
+        summary.put("averageWaitingTime", state.getAverageWaitingTime());
+        summary.put("waitingTimePercentiles", state.getWaitingTimes().toPercentiles());
+        summary.put("turnaroundTimePercentiles", state.getTurnaroundTimes().toPercentiles());
+        summary.put("responseTimePercentiles", state.getResponseTimes().toPercentiles());
+        summary.put("contextSwitches", state.getContextSwitches());
+        synchronized (this) {
+            sealBatch();
+            outbox.add(progressEvent());
+            progressChanged = false;
+            outbox.add(event("summary", summary));
+        }
+        return state;
+    }
+
+    /**
+     * Encerra a publicação, com erro (message != null) ou com sucesso
+     */
+    public synchronized void finish(String message) {
+        sealBatch();
+        outbox.add(message != null ? event("error", Map.of("error", message)) : event("done", Map.of()));
+        finished = true;
+    }
+
+    @Override
+    public synchronized void slice(int startTime, int endTime, int processId) {
+        if (pendingSlices >= maxPendingSlices) {
+            dropped++;
+            if (batchSize == 0) {
+                return;  // Tudo o que está pendente já foi selado na fila de envio
+            }
+            // Descarta a fatia mais antiga do lote para guardar a mais nova
+            batchStart = (batchStart + 1) % (batch.length / 3);
+            batchSize--;
+            pendingSlices--;
+        }
+        int capacity = batch.length / 3;
+        if (batchSize == capacity) {
+            batch = unroll(capacity * 2);
+            batchStart = 0;
+            capacity *= 2;
+        }
+        int position = 3 * ((batchStart + batchSize) % capacity);
+        batch[position] = startTime;
+        batch[position + 1] = endTime;
+        batch[position + 2] = processId;
+        batchSize++;
+        pendingSlices++;
+    }
+
+    @Override
+    public void progress(int simulatedTime, int completedCount) {
+        this.simulatedTime = simulatedTime;
+        this.completedCount = completedCount;
+        this.progressChanged = true;
+    }
+
+    /**
+     * Envia ao cliente o que foi acumulado desde o último envio.
+     * Chamado periodicamente por uma thread que não é a da simulação.
+     * @return true quando a publicação terminou e o emitter foi concluído
+     */
+    public boolean flush() throws IOException {
+        List<SseEmitter.SseEventBuilder> events;
+        boolean done;
+        synchronized (this) {
+            sealBatch();
+            if (progressChanged) {
+                outbox.add(progressEvent());
+                progressChanged = false;
+            }
+            events = new ArrayList<>(outbox);
+            outbox.clear();
+            pendingSlices = 0;
+            done = finished;
+        }
+
+        for (SseEmitter.SseEventBuilder event : events) {
+            emitter.send(event);
+        }
+        if (done) {
+            emitter.complete();
+        }
+        return done;
+    }
+
+    /**
+     * Move as fatias do lote atual para a fila de envio
+     */
+    private void sealBatch() {
+        if (batchSize == 0 && dropped == 0) return;
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("algorithm", algorithm);
+        data.put("slices", unroll(batchSize));
+        data.put("dropped", dropped);
+        outbox.add(event("slices", data));
+        batchStart = 0;
+        batchSize = 0;
+        dropped = 0;
+    }
+
+    /**
+     * Fatias do lote em ordem, num array com espaço para a quantidade informada de fatias
+     */
+    private int[] unroll(int slices) {
+        int[] ordered = new int[3 * slices];
+        int first = Math.min(batchSize, batch.length / 3 - batchStart);
+        System.arraycopy(batch, 3 * batchStart, ordered, 0, 3 * first);
+        System.arraycopy(batch, 0, ordered, 3 * first, 3 * (batchSize - first));
+        return ordered;
+    }
+
+    private SseEmitter.SseEventBuilder progressEvent() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("algorithm", algorithm);
+        data.put("simulatedTime", simulatedTime);
+        data.put("completedCount", completedCount);
+        data.put("processCount", processCount);
+        return event("progress", data);
+    }
+
+    private static SseEmitter.SseEventBuilder event(String name, Object data) {
+        return SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+    }
+}
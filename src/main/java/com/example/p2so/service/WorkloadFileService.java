@@ -0,0 +1,169 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Workload;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.regex.Pattern;
+
+/**
+ * Formato binário de carga de trabalho, para cargas grandes que seriam lentas de
+ * reler como texto. O arquivo é little-endian:
+ *
+ *   cabeçalho (16 bytes): magic "P2SO", versão, quantidade de processos, tamanho do registro
+ *   registros (16 bytes): id, tempo_chegada, duração, prioridade
+ *
+ * O escritor grava os registros em ordem de chegada, então a leitura não precisa reordenar;
+ * o ID de cada processo é gravado no registro, pois a ordem de chegada não é a dos IDs.
+ * Registros com chegada negativa ou duração não positiva são rejeitados na leitura,
+ * como as linhas correspondentes do formato texto (ver WorkloadParser).
+ * Os arquivos ficam restritos ao diretório configurado em p2so.workload.dir.
+ */
+@Service
+public class WorkloadFileService {
+    public static final int MAGIC = 0x4F533250;  // "P2SO" em little-endian
+    public static final int VERSION = 2;
+    public static final int HEADER_SIZE = 16;
+    public static final int RECORD_SIZE = 16;
+
+    // Registros por mapeamento: um MappedByteBuffer é limitado a 2 GB
+    private static final int RECORDS_PER_MAP = (1 << 30) / RECORD_SIZE;
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,127}");
+
+    private final Path directory;
+    private final SimulationMetrics metrics;
+
+    public WorkloadFileService(@Value("${p2so.workload.dir:workloads}") String directory,
+                               SimulationMetrics metrics) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.metrics = metrics;
+    }
+
+    /**
+     * Lê uma carga do diretório de cargas
+     */
+    public Workload load(String name) throws IOException {
+        Timer.Sample sample = metrics.start();
+        Workload workload = read(resolve(name));
+        metrics.recordParse(sample, "binary", workload);
+        return workload;
+    }
+
+    /**
+     * Grava uma carga no diretório de cargas, substituindo o arquivo se existir
+     */
+    public void save(String name, Workload workload) throws IOException {
+        Path file = resolve(name);
+        Files.createDirectories(directory);
+        Timer.Sample sample = metrics.start();
+        write(workload, file);
+        metrics.recordSerialize(sample, "binary");
+    }
+
+    /**
+     * Resolve o nome de arquivo dentro do diretório de cargas.
+     * Apenas nomes simples são aceitos (sem separadores ou "..").
+     */
+    public Path resolve(String name) {
+        if (name == null || !FILE_NAME.matcher(name).matches() || name.contains("..")) {
+            throw new IllegalArgumentException("Nome de arquivo inválido: " + name);
+        }
+        Path file = directory.resolve(name).normalize();
+        if (!file.getParent().equals(directory)) {
+            throw new IllegalArgumentException("Nome de arquivo inválido: " + name);
+        }
+        return file;
+    }
+
+    /**
+     * Grava a carga no formato binário
+     */
+    public static void write(Workload workload, Path file) throws IOException {
+        int n = workload.size();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024 - (64 * 1024 % RECORD_SIZE))
+                                          .order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(n).putInt(RECORD_SIZE);
+
+            for (int i = 0; i < n; i++) {
+                if (buffer.remaining() < RECORD_SIZE) {
+                    drain(buffer, channel);
+                }
+                buffer.putInt(workload.getId(i))
+                      .putInt(workload.getArrivalTime(i))
+                      .putInt(workload.getBurstTime(i))
+                      .putInt(workload.getPriority(i));
+            }
+            drain(buffer, channel);
+        }
+    }
+
+    /**
+     * Lê a carga mapeando o arquivo em memória (FileChannel.map), direto para as colunas
+     */
+    public static Workload read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IOException("Arquivo de carga inválido: cabeçalho incompleto");
+            }
+
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE)
+                                       .order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Arquivo de carga inválido: formato desconhecido");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Versão de arquivo de carga não suportada: " + version);
+            }
+            int n = header.getInt();
+            if (n < 0 || header.getInt() != RECORD_SIZE
+                    || size != HEADER_SIZE + (long) n * RECORD_SIZE) {
+                throw new IOException("Arquivo de carga inválido: tamanho inconsistente");
+            }
+
+            int[] ids = new int[n];
+            int[] arrivalTimes = new int[n];
+            int[] burstTimes = new int[n];
+            int[] priorities = new int[n];
+
+            for (int start = 0; start < n; start += RECORDS_PER_MAP) {
+                int count = Math.min(RECORDS_PER_MAP, n - start);
+                MappedByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_SIZE + (long) start * RECORD_SIZE, (long) count * RECORD_SIZE);
+                records.order(ByteOrder.LITTLE_ENDIAN);
+
+                for (int i = start, offset = 0; i < start + count; i++, offset += RECORD_SIZE) {
+                    ids[i] = records.getInt(offset);
+                    arrivalTimes[i] = records.getInt(offset + 4);
+                    burstTimes[i] = records.getInt(offset + 8);
+                    priorities[i] = records.getInt(offset + 12);
+                    if (burstTimes[i] <= 0) {
+                        throw new IOException("Arquivo de carga inválido: duração não positiva no registro " + (i + 1));
+                    }
+                    if (arrivalTimes[i] < 0) {
+                        throw new IOException("Arquivo de carga inválido: chegada negativa no registro " + (i + 1));
+                    }
+                }
+            }
+
+            return new Workload(ids, arrivalTimes, burstTimes, priorities);
+        }
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
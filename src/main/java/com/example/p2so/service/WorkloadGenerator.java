@@ -0,0 +1,147 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Workload;
+import com.example.p2so.model.WorkloadSpec;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Gerador de cargas sintéticas reprodutíveis (SplittableRandom com seed da especificação).
+ * Os valores são escritos direto nas colunas da Workload, já em ordem de chegada,
+ * sem criar objetos por processo nem reordenar.
+ */
+public final class WorkloadGenerator {
+    public static final int MAX_PROCESSES = 50_000_000;
+    public static final int MAX_ZIPF_LEVELS = 100_000;  // Níveis de prioridade Zipf (tamanho da tabela acumulada)
+
+    private WorkloadGenerator() {
+    }
+
+    /**
+     * Gera a carga descrita pela especificação
+     * @throws IllegalArgumentException se a especificação for inválida
+     */
+    public static Workload generate(WorkloadSpec spec) {
+        validate(spec);
+
+        int n = spec.getProcessCount();
+        int[] ids = new int[n];
+        int[] arrivalTimes = new int[n];
+        int[] burstTimes = new int[n];
+        int[] priorities = new int[n];
+
+        // Fluxos independentes: mudar a distribuição de um atributo não altera os demais
+        SplittableRandom root = new SplittableRandom(spec.getSeed());
+        SplittableRandom arrivalRandom = root.split();
+        SplittableRandom burstRandom = root.split();
+        SplittableRandom priorityRandom = root.split();
+        double[] priorityCdf = priorityCdf(spec);
+
+        long time = 0;
+        double remainingInBurst = 0;
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                time += interArrival(spec, arrivalRandom, remainingInBurst);
+            }
+            if (spec.getArrivals() == WorkloadSpec.Arrivals.BURSTY) {
+                // Tamanho da rajada sorteado ao iniciar cada rajada (geométrico com média burstSize)
+                remainingInBurst = remainingInBurst <= 1
+                    ? Math.max(1, Math.ceil(exponential(arrivalRandom, spec.getBurstSize())))
+                    : remainingInBurst - 1;
+            }
+            if (time > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Tempo de chegada excede o limite de inteiros; "
+                                                   + "reduza processCount ou meanInterArrival");
+            }
+
+            ids[i] = i + 1;
+            arrivalTimes[i] = (int) time;
+            burstTimes[i] = burst(spec, burstRandom);
+            priorities[i] = priority(spec, priorityRandom, priorityCdf);
+        }
+
+        return new Workload(ids, arrivalTimes, burstTimes, priorities);
+    }
+
+    private static long interArrival(WorkloadSpec spec, SplittableRandom random, double remainingInBurst) {
+        return switch (spec.getArrivals()) {
+            case POISSON -> Math.round(exponential(random, spec.getMeanInterArrival()));
+            // Dentro da rajada chegam juntos; entre rajadas o intervalo preserva a taxa média
+            case BURSTY -> remainingInBurst > 1
+                ? 0
+                : Math.round(exponential(random, spec.getMeanInterArrival() * spec.getBurstSize()));
+        };
+    }
+
+    private static int burst(WorkloadSpec spec, SplittableRandom random) {
+        double value = switch (spec.getBursts()) {
+            case EXPONENTIAL -> exponential(random, spec.getMeanBurst());
+            case PARETO -> {
+                // Mínimo escolhido para que a média (sem o limite) seja meanBurst
+                double alpha = spec.getParetoAlpha();
+                double minimum = spec.getMeanBurst() * (alpha - 1) / alpha;
+                yield minimum * Math.pow(1.0 - random.nextDouble(), -1.0 / alpha);
+            }
+        };
+        return (int) Math.max(1, Math.min(spec.getMaxBurst(), Math.ceil(value)));
+    }
+
+    private static int priority(WorkloadSpec spec, SplittableRandom random, double[] cdf) {
+        if (cdf == null) {
+            return spec.getPriorityMin() + random.nextInt(spec.getPriorityMax() - spec.getPriorityMin() + 1);
+        }
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return spec.getPriorityMin() + (index >= 0 ? index + 1 : -index - 1);
+    }
+
+    /**
+     * Distribuição acumulada das prioridades Zipf (null para uniforme)
+     */
+    private static double[] priorityCdf(WorkloadSpec spec) {
+        if (spec.getPriorities() != WorkloadSpec.Priorities.ZIPF) return null;
+
+        int levels = spec.getPriorityMax() - spec.getPriorityMin() + 1;
+        double[] cdf = new double[levels];
+        double total = 0;
+        for (int k = 0; k < levels; k++) {
+            total += 1.0 / Math.pow(k + 1, spec.getZipfExponent());
+            cdf[k] = total;
+        }
+        for (int k = 0; k < levels; k++) {
+            cdf[k] /= total;
+        }
+        cdf[levels - 1] = 1.0;
+        return cdf;
+    }
+
+    private static double exponential(SplittableRandom random, double mean) {
+        return -mean * Math.log(1.0 - random.nextDouble());
+    }
+
+    private static void validate(WorkloadSpec spec) {
+        if (spec.getProcessCount() < 1 || spec.getProcessCount() > MAX_PROCESSES) {
+            throw new IllegalArgumentException("processCount deve estar entre 1 e " + MAX_PROCESSES);
+        }
+        if (spec.getArrivals() == null || spec.getBursts() == null || spec.getPriorities() == null) {
+            throw new IllegalArgumentException("arrivals, bursts e priorities são obrigatórios");
+        }
+        if (!(spec.getMeanInterArrival() >= 0) || !(spec.getBurstSize() >= 1)) {
+            throw new IllegalArgumentException("meanInterArrival deve ser >= 0 e burstSize >= 1");
+        }
+        if (!(spec.getMeanBurst() >= 1) || spec.getMaxBurst() < 1) {
+            throw new IllegalArgumentException("meanBurst e maxBurst devem ser >= 1");
+        }
+        if (spec.getBursts() == WorkloadSpec.Bursts.PARETO && !(spec.getParetoAlpha() > 1)) {
+            throw new IllegalArgumentException("paretoAlpha deve ser maior que 1");
+        }
+        if (spec.getPriorityMax() < spec.getPriorityMin() || !(spec.getZipfExponent() >= 0)) {
+            throw new IllegalArgumentException("priorityMax deve ser >= priorityMin e zipfExponent >= 0");
+        }
+        long levels = (long) spec.getPriorityMax() - spec.getPriorityMin() + 1;
+        if (levels > Integer.MAX_VALUE
+                || spec.getPriorities() == WorkloadSpec.Priorities.ZIPF && levels > MAX_ZIPF_LEVELS) {
+            throw new IllegalArgumentException("Faixa de prioridades muito grande (máximo "
+                                               + MAX_ZIPF_LEVELS + " níveis com ZIPF)");
+        }
+    }
+}
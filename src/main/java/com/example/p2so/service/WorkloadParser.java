@@ -0,0 +1,178 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Workload;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Leitor incremental da entrada de processos no formato texto:
+ * uma linha por processo com "tempo_chegada duração prioridade".
+ *
+ * Os inteiros são decodificados caractere a caractere direto para as colunas
+ * da Workload, sem dividir a entrada em linhas ou tokens. Linhas vazias são
+ * ignoradas; linhas inválidas (sintaxe, valor fora de int, chegada negativa ou duração
+ * não positiva) são descartadas e contadas, guardando o número das primeiras
+ * (getMalformedCount, getMalformedLines) para o chamador informar no resultado.
+ * Campos além do terceiro são ignorados. Cada instância lê uma única entrada.
+ */
+public class WorkloadParser {
+    private static final int MAX_REPORTED_LINES = 100;  // Limite de linhas inválidas guardadas
+
+    // Colunas em construção
+    private int[] arrivalTimes = new int[1024];
+    private int[] burstTimes = new int[1024];
+    private int[] priorities = new int[1024];
+    private int count;
+
+    // Linha atual
+    private final int[] fields = new int[3];
+    private int fieldCount;
+    private long value;
+    private boolean negative;
+    private boolean inNumber;
+    private boolean hasDigits;
+    private boolean malformed;
+    private boolean blank = true;
+    private int lineNumber = 1;
+
+    // Linhas inválidas
+    private final List<Integer> malformedLines = new ArrayList<>();
+    private int malformedCount;
+
+    /**
+     * Lê a entrada de um stream (bytes em ASCII/UTF-8), em blocos
+     */
+    public Workload parse(InputStream input) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                accept(buffer[i]);
+            }
+        }
+        return finish();
+    }
+
+    /**
+     * Lê a entrada de um texto já carregado
+     */
+    public Workload parse(CharSequence input) {
+        for (int i = 0; i < input.length(); i++) {
+            accept(input.charAt(i));
+        }
+        return finish();
+    }
+
+    /**
+     * Números das linhas descartadas por estarem mal formadas (até as primeiras 100)
+     */
+    public List<Integer> getMalformedLines() { return malformedLines; }
+
+    /**
+     * Total de linhas descartadas por estarem mal formadas
+     */
+    public int getMalformedCount() { return malformedCount; }
+
+    private void accept(int c) {
+        if (c == '\n') {
+            endLine();
+            return;
+        }
+        if (malformed) {
+            return;  // Descarta o restante de uma linha inválida
+        }
+
+        if (c == ' ' || c == '\t' || c == '\r') {
+            endField();
+            return;
+        }
+
+        blank = false;
+        if (fieldCount == 3) {
+            return;  // Campos extras são ignorados
+        }
+
+        if (c >= '0' && c <= '9') {
+            value = value * 10 + (c - '0');
+            hasDigits = true;
+            inNumber = true;
+            if (value > Integer.MAX_VALUE + 1L) {
+                malformed = true;
+            }
+        } else if ((c == '-' || c == '+') && !inNumber) {
+            negative = c == '-';
+            inNumber = true;
+        } else {
+            malformed = true;
+        }
+    }
+
+    private void endField() {
+        if (!inNumber) return;
+        long signed = negative ? -value : value;
+        if (!hasDigits || signed > Integer.MAX_VALUE) {
+            malformed = true;
+        } else {
+            fields[fieldCount++] = (int) signed;
+        }
+        value = 0;
+        negative = false;
+        inNumber = false;
+        hasDigits = false;
+    }
+
+    private void endLine() {
+        if (!malformed) {
+            endField();
+        }
+
+        if (!blank) {
+            // Chegada negativa ou duração não positiva fariam o relógio da simulação voltar
+            if (malformed || fieldCount < 3 || fields[0] < 0 || fields[1] <= 0) {
+                malformedCount++;
+                if (malformedLines.size() < MAX_REPORTED_LINES) {
+                    malformedLines.add(lineNumber);
+                }
+            } else {
+                add(fields[0], fields[1], fields[2]);
+            }
+        }
+
+        fieldCount = 0;
+        value = 0;
+        negative = false;
+        inNumber = false;
+        hasDigits = false;
+        malformed = false;
+        blank = true;
+        lineNumber++;
+    }
+
+    private void add(int arrivalTime, int burstTime, int priority) {
+        if (count == arrivalTimes.length) {
+            int capacity = count * 2;
+            arrivalTimes = Arrays.copyOf(arrivalTimes, capacity);
+            burstTimes = Arrays.copyOf(burstTimes, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+        }
+        arrivalTimes[count] = arrivalTime;
+        burstTimes[count] = burstTime;
+        priorities[count] = priority;
+        count++;
+    }
+
+    private Workload finish() {
+        endLine();  // Última linha sem '\n'
+
+        // IDs sequenciais na ordem da entrada (P1, P2, P3...)
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = i + 1;
+        }
+        return new Workload(ids, Arrays.copyOf(arrivalTimes, count),
+                            Arrays.copyOf(burstTimes, count), Arrays.copyOf(priorities, count));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.p2so.controller;
+
+import com.example.p2so.model.Configuration;
+import com.example.p2so.model.TimelineEntry;
+import com.example.p2so.model.TimelineIndex;
+import com.example.p2so.scheduler.FCFSScheduler;
+import com.example.p2so.service.SchedulerService;
+import com.example.p2so.service.WorkloadParser;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Faixas da varredura (quantum e aging) e janela fechada das consultas ao timeline
+ */
+class SchedulerControllerTest {
+
+    @Test
+    void rangeIncludesBothEndsWhenTheStepFits() {
+        assertArrayEquals(new int[] {1, 4, 7, 10}, SchedulerController.range(1, 10, 3, 1, "quantum"));
+        assertArrayEquals(new int[] {0, 3, 6}, SchedulerController.range(0, 8, 3, 0, "aging"));
+        assertArrayEquals(new int[] {5}, SchedulerController.range(5, 5, 1, 1, "quantum"));
+    }
+
+    @Test
+    void rangeRejectsInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> SchedulerController.range(0, 10, 1, 1, "quantum"));
+        assertThrows(IllegalArgumentException.class, () -> SchedulerController.range(10, 1, 1, 1, "quantum"));
+        assertThrows(IllegalArgumentException.class, () -> SchedulerController.range(1, 10, 0, 1, "quantum"));
+    }
+
+    @Test
+    void rangeRejectsTooManyValuesBeforeAllocating() {
+        int max = SchedulerService.MAX_SWEEP_POINTS;
+        assertEquals(max, SchedulerController.range(1, max, 1, 1, "quantum").length);
+
+        assertThrows(IllegalArgumentException.class, () -> SchedulerController.range(1, max + 1, 1, 1, "quantum"));
+        // (to - from) / step + 1 excede int: não pode virar um tamanho negativo nem alocar 8 GB
+        assertThrows(IllegalArgumentException.class,
+                     () -> SchedulerController.range(0, Integer.MAX_VALUE, 1, 0, "aging"));
+    }
+
+    @Test
+    void timelineWindowIncludesSlicesStartingAtTheEnd() {
+        // P1 em [0, 2), P2 em [2, 5)
+        TimelineIndex index = new FCFSScheduler(new Configuration(2, 1))
+            .schedule(new WorkloadParser().parse("0 2 1\n0 3 1")).timelineIndex();
+
+        assertEquals("P1 P2", describe(SchedulerController.slicesBetween(index, 0, 2)));
+        assertEquals("P2", describe(SchedulerController.slicesBetween(index, 2, 2)));
+        assertEquals("P2", describe(SchedulerController.slicesBetween(index, 4, 4)));
+        assertEquals("", describe(SchedulerController.slicesBetween(index, 5, 9)));
+        assertEquals("P1 P2", describe(SchedulerController.slicesBetween(index, 0, Integer.MAX_VALUE)));
+    }
+
+    private static String describe(List<TimelineEntry> slices) {
+        StringBuilder sb = new StringBuilder();
+        for (TimelineEntry slice : slices) {
+            if (!sb.isEmpty()) {
+                sb.append(' ');
+            }
+            sb.append('P').append(slice.getProcessId());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.p2so.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Estados de espera de cada intervalo comparados com a definição: chegou antes do fim,
+ * conclui depois do início e não é o processo em execução
+ */
+class ReadyIntervalsTest {
+
+    @Test
+    void waitingProcessesOfInterval() {
+        // Chegadas 0, 0, 2, 5; conclusões 3, 9, 4, 6
+        Workload workload = new Workload(new int[] {1, 2, 3, 4}, new int[] {0, 0, 2, 5},
+                                         new int[] {3, 6, 2, 1}, new int[] {1, 1, 1, 1});
+        ReadyIntervals intervals = new ReadyIntervals(workload, new int[] {3, 9, 4, 6});
+
+        assertEquals(Map.of(2, "--"), intervals.statesDuring(0, 2, 1));
+        assertEquals(Map.of(2, "--", 3, "--"), intervals.statesDuring(2, 3, 1));
+        assertEquals(Map.of(2, "--"), intervals.statesDuring(3, 4, 3));
+        assertEquals(Map.of(4, "--"), intervals.statesDuring(5, 6, 2));
+        assertEquals(Map.of(), intervals.statesDuring(6, 9, 2));
+        assertEquals(Map.of(), intervals.statesDuring(9, 12, 0));
+    }
+
+    @Test
+    void matchesLinearScan() {
+        Random random = new Random(3);
+        for (int w = 0; w < 300; w++) {
+            int n = 1 + random.nextInt(70);
+            int[] ids = new int[n];
+            int[] arrivals = new int[n];
+            int[] completions = new int[n];
+            for (int i = 0; i < n; i++) {
+                ids[i] = i + 1;
+                arrivals[i] = random.nextInt(50);
+            }
+            Workload workload = new Workload(ids, arrivals, new int[n], new int[n]);
+            for (int i = 0; i < n; i++) {
+                completions[i] = workload.getArrivalTime(i) + 1 + random.nextInt(40);
+            }
+            ReadyIntervals intervals = new ReadyIntervals(workload, completions);
+
+            for (int q = 0; q < 30; q++) {
+                int start = random.nextInt(100);
+                int end = start + 1 + random.nextInt(10);
+                int running = random.nextInt(n + 1);
+                Map<Integer, String> expected = new HashMap<>();
+                for (int p = 0; p < n; p++) {
+                    if (workload.getArrivalTime(p) < end && completions[p] > start && workload.getId(p) != running) {
+                        expected.put(workload.getId(p), "--");
+                    }
+                }
+                assertEquals(expected, intervals.statesDuring(start, end, running), "carga " + w + ", " + start + "-" + end);
+            }
+        }
+    }
+}
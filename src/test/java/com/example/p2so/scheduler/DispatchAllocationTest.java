@@ -0,0 +1,83 @@
+package com.example.p2so.scheduler;
+
+import com.example.p2so.model.Configuration;
+import com.example.p2so.model.Workload;
+import com.example.p2so.model.WorkloadSpec;
+import com.example.p2so.service.SchedulerService;
+import com.example.p2so.service.WorkloadGenerator;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Garante que o laço de despacho não aloca memória em regime permanente.
+ *
+ * A alocação da thread (ThreadMXBean.getThreadAllocatedBytes) é amostrada a cada notificação
+ * de progresso, ou seja, a cada PROGRESS_INTERVAL passos do núcleo de simulação; a criação da
+ * política e das filas fica antes da primeira amostra. As amostras da primeira metade são
+ * descartadas (aquecimento e compilação) e o restante deve caber no orçamento por passo.
+ */
+class DispatchAllocationTest {
+    private static final int PROCESSES = 100_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int STEPS_PER_SAMPLE = 1024;        // PROGRESS_INTERVAL do núcleo
+    private static final double MAX_BYTES_PER_STEP = 1.0;    // Um objeto a cada 16 passos já excede
+
+    private static final Workload WORKLOAD = WorkloadGenerator.generate(spec());
+
+    private static WorkloadSpec spec() {
+        WorkloadSpec spec = new WorkloadSpec();
+        spec.setProcessCount(PROCESSES);
+        spec.setMeanInterArrival(8.0);  // Sobrecarga: filas de prontos longas
+        return spec;
+    }
+
+    @ParameterizedTest(name = "{0}, {1} núcleo(s)")
+    @CsvSource({
+        "FCFS, 1", "SJF, 1", "SRTF, 1", "PRIORITY, 1", "PRIORITY_PREEMPTIVE, 1", "ROUND_ROBIN, 1", "ROUND_ROBIN_PRIORITY, 1",
+        "FCFS, 4", "SJF, 4", "SRTF, 4", "PRIORITY, 4", "PRIORITY_PREEMPTIVE, 4", "ROUND_ROBIN, 4", "ROUND_ROBIN_PRIORITY, 4"
+    })
+    void dispatchLoopDoesNotAllocate(String algorithm, int cores) {
+        com.sun.management.ThreadMXBean threads = allocationCounter();
+        Scheduler scheduler = SchedulerService.getScheduler(algorithm, new Configuration(2, 1, cores));
+        ProcessTable table = new ProcessTable(WORKLOAD);
+        TimelineSink discard = (startTime, endTime, processId) -> { };
+
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            scheduler.simulate(table, discard);
+        }
+
+        // Amostras pré-alocadas: o listener não pode alocar
+        long threadId = Thread.currentThread().threadId();
+        long[] samples = new long[1 << 16];
+        int[] count = new int[1];
+        ProgressListener listener = (simulatedTime, completedCount) -> {
+            if (count[0] < samples.length) {
+                samples[count[0]++] = threads.getThreadAllocatedBytes(threadId);
+            }
+        };
+        scheduler.simulate(table, discard, listener);
+
+        // A última amostra vem do final da simulação, fora do intervalo regular
+        int first = count[0] / 2;
+        int last = count[0] - 2;
+        assertTrue(last - first >= 16, "Poucas amostras para medir: " + count[0]);
+
+        double bytesPerStep = (double) (samples[last] - samples[first]) / ((long) (last - first) * STEPS_PER_SAMPLE);
+        assertTrue(bytesPerStep <= MAX_BYTES_PER_STEP,
+                   String.format("%s com %d núcleo(s) alocou %.2f bytes por passo (orçamento: %.2f)",
+                                 algorithm, cores, bytesPerStep, MAX_BYTES_PER_STEP));
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                   "JVM sem contagem de alocação por thread");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "JVM sem contagem de alocação por thread");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+}
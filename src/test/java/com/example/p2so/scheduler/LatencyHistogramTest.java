@@ -0,0 +1,96 @@
+package com.example.p2so.scheduler;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Erro dos percentis do histograma em relação aos valores exatos
+ */
+class LatencyHistogramTest {
+    private static final double[] PERCENTILES = {0, 1, 10, 25, 50, 75, 90, 99, 99.9, 100};
+
+    @Test
+    void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int[] values = new int[64];
+        for (int v = 0; v < 64; v++) {
+            values[v] = 63 - v;
+            histogram.record(values[v]);
+        }
+        Arrays.sort(values);
+
+        for (double percentile : PERCENTILES) {
+            assertEquals(exact(values, percentile), histogram.percentile(percentile), "p" + percentile);
+        }
+    }
+
+    @Test
+    void percentilesStayWithinOneThirtySecondOfExact() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int run = 0; run < 20; run++) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            int[] values = new int[1 + random.nextInt(20_000)];
+            for (int i = 0; i < values.length; i++) {
+                // Ordem de grandeza sorteada: de 0 a todo o intervalo de int
+                values[i] = random.nextInt(1 << random.nextInt(31)) + (run == 0 ? Integer.MAX_VALUE / 2 : 0);
+                histogram.record(values[i]);
+            }
+            Arrays.sort(values);
+
+            for (double percentile : PERCENTILES) {
+                int exact = exact(values, percentile);
+                int estimate = histogram.percentile(percentile);
+                assertTrue(estimate >= exact && estimate - exact <= exact / 32,
+                           "p" + percentile + ": exato " + exact + ", estimado " + estimate);
+            }
+            assertEquals(values[values.length - 1], histogram.getMax());
+            assertEquals(values[values.length - 1], histogram.percentile(100));
+        }
+    }
+
+    @Test
+    void addMatchesRecordingEverything() {
+        SplittableRandom random = new SplittableRandom(11);
+        LatencyHistogram all = new LatencyHistogram();
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        for (int i = 0; i < 10_000; i++) {
+            int value = random.nextInt(1_000_000);
+            all.record(value);
+            (i % 3 == 0 ? first : second).record(value);
+        }
+        first.add(second);
+
+        assertEquals(all.getCount(), first.getCount());
+        assertEquals(all.getMax(), first.getMax());
+        for (double percentile : PERCENTILES) {
+            assertEquals(all.percentile(percentile), first.percentile(percentile));
+        }
+    }
+
+    @Test
+    void edgeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.percentile(50));
+
+        histogram.record(-5);
+        assertEquals(0, histogram.percentile(100));
+
+        histogram.record(Integer.MAX_VALUE);
+        assertEquals(Integer.MAX_VALUE, histogram.percentile(100));
+        assertEquals(Integer.MAX_VALUE, histogram.getMax());
+        assertEquals(2, histogram.getCount());
+    }
+
+    /**
+     * Percentil exato com a mesma definição do histograma: o valor na posição ceil(p/100 × n)
+     */
+    private static int exact(int[] sorted, double percentile) {
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * sorted.length));
+        return sorted[(int) rank - 1];
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.p2so.scheduler;
+
+import com.example.p2so.model.Configuration;
+import com.example.p2so.model.CoreMetrics;
+import com.example.p2so.model.ProcessMetrics;
+import com.example.p2so.model.SchedulerResult;
+import com.example.p2so.model.TimelineEntry;
+import com.example.p2so.model.Workload;
+import com.example.p2so.service.SchedulerService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Invariantes da simulação com vários núcleos, para os sete algoritmos sobre cargas sorteadas
+ */
+class MulticoreSimulationTest {
+    private static final String[] ALGORITHMS = {
+        "FCFS", "SJF", "SRTF", "PRIORITY", "PRIORITY_PREEMPTIVE", "ROUND_ROBIN", "ROUND_ROBIN_PRIORITY"
+    };
+
+    @Test
+    void schedulesAreConsistentOnEveryCore() {
+        Random random = new Random(11);
+        for (int w = 0; w < 500; w++) {
+            int n = 1 + random.nextInt(40);
+            int[] ids = new int[n];
+            int[] arrivalTimes = new int[n];
+            int[] burstTimes = new int[n];
+            int[] priorities = new int[n];
+            for (int i = 0; i < n; i++) {
+                ids[i] = i + 1;
+                arrivalTimes[i] = random.nextInt(w % 3 == 0 ? 60 : 15);
+                burstTimes[i] = 1 + random.nextInt(9);
+                priorities[i] = 1 + random.nextInt(5);
+            }
+            Workload workload = new Workload(ids, arrivalTimes, burstTimes, priorities);
+            int cores = 2 + random.nextInt(6);
+            Configuration config = new Configuration(1 + random.nextInt(3), random.nextInt(3), cores);
+
+            for (String algorithm : ALGORITHMS) {
+                SchedulerResult result = SchedulerService.getScheduler(algorithm, config).schedule(workload);
+                check(workload, cores, result, algorithm + " na carga " + w);
+            }
+        }
+    }
+
+    @Test
+    void enoughCoresMeansNoWaiting() {
+        // Oito processos chegando juntos em oito núcleos: todos executam de imediato
+        Workload workload = new Workload(new int[] {1, 2, 3, 4, 5, 6, 7, 8}, new int[8],
+                                         new int[] {5, 3, 8, 1, 9, 2, 7, 4}, new int[] {3, 1, 2, 5, 4, 1, 2, 3});
+        for (String algorithm : ALGORITHMS) {
+            SchedulerResult result = SchedulerService.getScheduler(algorithm, new Configuration(2, 1, 8)).schedule(workload);
+            assertEquals(0.0, result.getAverageWaitingTime(), algorithm);
+            assertEquals(0, result.getMigrations(), algorithm);
+        }
+    }
+
+    private static void check(Workload workload, int cores, SchedulerResult result, String context) {
+        int n = workload.size();
+        List<List<int[]>> byCore = new ArrayList<>();
+        for (int c = 0; c < cores; c++) {
+            byCore.add(new ArrayList<>());
+        }
+        List<List<int[]>> byProcess = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            byProcess.add(new ArrayList<>());
+        }
+
+        for (TimelineEntry entry : result.getTimeline()) {
+            assertTrue(entry.getStartTime() < entry.getEndTime(), "Fatia vazia: " + context);
+            assertTrue(entry.getCore() >= 0 && entry.getCore() < cores, "Núcleo inválido: " + context);
+            int[] slice = {entry.getStartTime(), entry.getEndTime()};
+            byCore.get(entry.getCore()).add(slice);
+            if (entry.getProcessId() != 0) {
+                byProcess.get(entry.getProcessId() - 1).add(slice);
+            }
+        }
+
+        // Um núcleo executa uma fatia por vez, e um processo executa em um núcleo por vez
+        for (List<int[]> slices : byCore) {
+            assertFalse(overlaps(slices), "Fatias sobrepostas num núcleo: " + context);
+        }
+        for (List<int[]> slices : byProcess) {
+            assertFalse(overlaps(slices), "Processo em dois núcleos ao mesmo tempo: " + context);
+        }
+
+        for (int i = 0; i < n; i++) {
+            int id = workload.getId(i);
+            List<int[]> slices = byProcess.get(id - 1);
+            int ran = slices.stream().mapToInt(slice -> slice[1] - slice[0]).sum();
+            assertEquals(workload.getBurstTime(i), ran, "Execução de P" + id + ": " + context);
+            assertTrue(slices.get(0)[0] >= workload.getArrivalTime(i), "P" + id + " antes da chegada: " + context);
+
+            ProcessMetrics metrics = result.getProcessMetrics().get(id);
+            assertEquals(slices.get(slices.size() - 1)[1], metrics.getCompletionTime(), "Conclusão de P" + id + ": " + context);
+            assertEquals(slices.get(0)[0] - workload.getArrivalTime(i), metrics.getResponseTime(),
+                         "Resposta de P" + id + ": " + context);
+        }
+
+        assertEquals(cores, result.getCoreMetrics().size(), context);
+        for (CoreMetrics core : result.getCoreMetrics()) {
+            assertTrue(core.getUtilization() >= 0 && core.getUtilization() <= 1.0 + 1e-9, "Utilização: " + context);
+        }
+    }
+
+    /**
+     * Ordena as fatias pelo início e verifica se alguma começa antes do fim da anterior
+     */
+    private static boolean overlaps(List<int[]> slices) {
+        int[][] sorted = slices.toArray(new int[0][]);
+        Arrays.sort(sorted, (a, b) -> Integer.compare(a[0], b[0]));
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i][0] < sorted[i - 1][1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
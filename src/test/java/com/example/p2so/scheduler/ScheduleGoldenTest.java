@@ -0,0 +1,149 @@
+package com.example.p2so.scheduler;
+
+import com.example.p2so.model.Configuration;
+import com.example.p2so.model.ProcessMetrics;
+import com.example.p2so.model.ProcessTask;
+import com.example.p2so.model.SchedulerResult;
+import com.example.p2so.model.TimelineEntry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara os escalonamentos dos sete algoritmos com os do motor original (commit baseline,
+ * anterior ao núcleo de simulação compartilhado), gravados em golden/schedules.txt.
+ *
+ * Cada carga do arquivo (linha iniciada por @) é seguida pelo resultado esperado de cada
+ * algoritmo: trocas de contexto, médias, fatias de execução e a conclusão e a resposta de
+ * cada processo. As fatias são comparadas sem os períodos ociosos e unindo fatias consecutivas
+ * do mesmo processo, pois o motor original emitia uma fatia por unidade de tempo.
+ *
+ * Algoritmos que precisaram da regra 3 de desempate (escolha aleatória) foram omitidos da
+ * carga: o motor original sorteava a cada escolha e o atual usa a ordem fixa da ProcessTable.
+ */
+class ScheduleGoldenTest {
+    private static final Map<String, Function<Configuration, Scheduler>> SCHEDULERS = Map.of(
+        "FCFSScheduler", FCFSScheduler::new,
+        "SJFScheduler", SJFScheduler::new,
+        "SRTFScheduler", SRTFScheduler::new,
+        "PriorityNonPreemptiveScheduler", PriorityNonPreemptiveScheduler::new,
+        "PriorityPreemptiveScheduler", PriorityPreemptiveScheduler::new,
+        "RoundRobinScheduler", RoundRobinScheduler::new,
+        "RoundRobinPriorityScheduler", RoundRobinPriorityScheduler::new);
+
+    @Test
+    void schedulesMatchOriginalEngine() throws IOException {
+        List<String> lines;
+        try (InputStream in = getClass().getResourceAsStream("/golden/schedules.txt")) {
+            assertNotNull(in, "golden/schedules.txt não encontrado");
+            lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+
+        String workload = null;
+        Configuration config = null;
+        int[][] processes = null;
+        int checked = 0;
+        for (String line : lines) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            if (line.startsWith("@")) {
+                // @rótulo quantum aging chegada,burst,prioridade ...
+                String[] parts = line.substring(1).split(" ");
+                workload = parts[0];
+                config = new Configuration(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+                processes = new int[parts.length - 3][];
+                for (int i = 3; i < parts.length; i++) {
+                    String[] fields = parts[i].split(",");
+                    processes[i - 3] = new int[] {Integer.parseInt(fields[0]), Integer.parseInt(fields[1]),
+                                                  Integer.parseInt(fields[2])};
+                }
+                continue;
+            }
+
+            String algorithm = line.substring(0, line.indexOf(' '));
+            assertNotNull(processes, "Resultado antes da primeira carga: " + line);
+            assertNotNull(SCHEDULERS.get(algorithm), "Algoritmo desconhecido: " + algorithm);
+            SchedulerResult result = SCHEDULERS.get(algorithm).apply(config).schedule(tasks(processes));
+            assertEquals(line, render(algorithm, result), "Carga " + workload);
+            checked++;
+        }
+        assertTrue(checked >= 900, "Poucos escalonamentos comparados: " + checked);
+    }
+
+    /**
+     * SRTF: as chegadas admitidas depois de uma execução não podem ver o processo em execução
+     * fora de posição no heap (em t=29, P6 com 13 unidades restantes vence P2 com 25)
+     */
+    @Test
+    void srtfRepositionsRunningProcessBeforeArrivals() {
+        int[][] processes = {{24, 27, 1}, {4, 25, 1}, {38, 4, 1}, {4, 31, 1}, {2, 1, 1}, {23, 13, 1}, {3, 26, 1}};
+
+        SchedulerResult result = new SRTFScheduler(new Configuration(2, 1)).schedule(tasks(processes));
+        assertEquals("2-3:P5 3-29:P7 29-42:P6 42-46:P3 46-71:P2 71-98:P1 98-129:P4", slices(result));
+    }
+
+    /**
+     * Processos novos a cada execução (chegada, burst, prioridade; IDs a partir de 1)
+     */
+    static List<ProcessTask> tasks(int[][] processes) {
+        List<ProcessTask> tasks = new ArrayList<>();
+        for (int i = 0; i < processes.length; i++) {
+            tasks.add(new ProcessTask(i + 1, processes[i][0], processes[i][1], processes[i][2]));
+        }
+        return tasks;
+    }
+
+    /**
+     * Resultado de um algoritmo no formato de golden/schedules.txt
+     */
+    static String render(String algorithm, SchedulerResult result) {
+        StringBuilder line = new StringBuilder(algorithm)
+            .append(String.format(Locale.ROOT, " cs=%d tt=%.3f tw=%.3f ", result.getContextSwitches(),
+                                  result.getAverageTurnaroundTime(), result.getAverageWaitingTime()))
+            .append(slices(result));
+        for (ProcessMetrics metrics : new TreeMap<>(result.getProcessMetrics()).values()) {
+            line.append(" |").append(metrics.getProcessId()).append(',')
+                .append(metrics.getCompletionTime()).append(',').append(metrics.getResponseTime());
+        }
+        return line.toString();
+    }
+
+    /**
+     * Fatias de execução sem os períodos ociosos, unindo fatias consecutivas do mesmo processo
+     */
+    private static String slices(SchedulerResult result) {
+        List<int[]> slices = new ArrayList<>();
+        for (TimelineEntry entry : result.getTimeline()) {
+            if (entry.getProcessId() == 0) {
+                continue;
+            }
+            int[] last = slices.isEmpty() ? null : slices.get(slices.size() - 1);
+            if (last != null && last[2] == entry.getProcessId() && last[1] == entry.getStartTime()) {
+                last[1] = entry.getEndTime();
+            } else {
+                slices.add(new int[] {entry.getStartTime(), entry.getEndTime(), entry.getProcessId()});
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (int[] slice : slices) {
+            if (!sb.isEmpty()) {
+                sb.append(' ');
+            }
+            sb.append(slice[0]).append('-').append(slice[1]).append(":P").append(slice[2]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.p2so.scheduler;
+
+import com.example.p2so.model.Configuration;
+import com.example.p2so.model.ProcessActivity;
+import com.example.p2so.model.ProcessMetrics;
+import com.example.p2so.model.ProcessState;
+import com.example.p2so.model.ProcessTask;
+import com.example.p2so.model.SchedulerResult;
+import com.example.p2so.model.TimelineEntry;
+import com.example.p2so.model.TimelineIndex;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Consultas do índice do timeline comparadas com a busca linear no timeline inteiro,
+ * com um e com vários núcleos
+ */
+class TimelineIndexTest {
+
+    @Test
+    void activityOfPreemptedProcess() {
+        // P1 é interrompido por P2 em t=2 e volta em t=4
+        List<ProcessTask> tasks = List.of(new ProcessTask(1, 0, 5, 1), new ProcessTask(2, 2, 2, 1));
+        TimelineIndex index = new SRTFScheduler(new Configuration(2, 0)).schedule(tasks).timelineIndex();
+
+        assertEquals(ProcessState.RUNNING, index.activityAt(1, 0).getState());
+        assertEquals(ProcessState.READY, index.activityAt(1, 3).getState());
+        assertEquals(ProcessState.NOT_ARRIVED, index.activityAt(2, 1).getState());
+        assertEquals(ProcessState.COMPLETED, index.activityAt(2, 4).getState());
+
+        ProcessActivity resumed = index.activityAt(1, 5);
+        assertEquals(ProcessState.RUNNING, resumed.getState());
+        assertEquals(4, resumed.getSliceStart());
+        assertEquals(7, resumed.getSliceEnd());
+        assertEquals(0, resumed.getCore());
+
+        assertNull(index.activityAt(3, 0));
+        assertEquals(0, index.overlapping(7, 20).size());
+    }
+
+    @Test
+    void queriesMatchLinearScan() throws IOException {
+        Random random = new Random(5);
+        for (int w = 0; w < 600; w++) {
+            List<ProcessTask> tasks = new ArrayList<>();
+            int n = 1 + random.nextInt(30);
+            for (int i = 0; i < n; i++) {
+                tasks.add(new ProcessTask(i + 1, random.nextInt(100), random.nextInt(12), 1 + random.nextInt(5)));
+            }
+            Configuration config = new Configuration(1 + random.nextInt(3), random.nextInt(3),
+                                                     w % 2 == 0 ? 1 : 2 + random.nextInt(4));
+
+            for (Scheduler scheduler : List.of(new FCFSScheduler(config), new SRTFScheduler(config),
+                                               new PriorityPreemptiveScheduler(config),
+                                               new RoundRobinPriorityScheduler(config))) {
+                SchedulerResult result = scheduler.schedule(tasks);
+                String context = "carga " + w + ", " + scheduler.getClass().getSimpleName();
+                checkOverlapping(result, random, context);
+                checkActivity(result, tasks, random, context);
+                checkDiagramWindow(result, n, context);
+            }
+        }
+    }
+
+    private static void checkOverlapping(SchedulerResult result, Random random, String context) {
+        List<TimelineEntry> timeline = result.getTimeline();
+        int limit = end(timeline) + 2;
+        for (int q = 0; q < 20; q++) {
+            int from = random.nextInt(limit);
+            int to = from + random.nextInt(limit / 3 + 2);
+            List<TimelineEntry> expected = new ArrayList<>();
+            for (TimelineEntry entry : timeline) {
+                if (entry.getStartTime() < to && entry.getEndTime() > from) {
+                    expected.add(entry);
+                }
+            }
+            assertEquals(expected, new ArrayList<>(result.timelineIndex().overlapping(from, to)),
+                         context + ", janela " + from + "-" + to);
+        }
+    }
+
+    private static void checkActivity(SchedulerResult result, List<ProcessTask> tasks, Random random, String context) {
+        List<TimelineEntry> timeline = result.getTimeline();
+        int limit = end(timeline) + 2;
+        for (ProcessTask task : tasks) {
+            ProcessMetrics metrics = result.getProcessMetrics().get(task.getId());
+            for (int t = 0; t < limit; t += 1 + random.nextInt(3)) {
+                TimelineEntry running = null;
+                for (TimelineEntry entry : timeline) {
+                    if (entry.getProcessId() == task.getId() && entry.getStartTime() <= t && t < entry.getEndTime()) {
+                        running = entry;
+                    }
+                }
+                ProcessState expected = t < metrics.getArrivalTime() ? ProcessState.NOT_ARRIVED
+                    : t >= metrics.getCompletionTime() ? ProcessState.COMPLETED
+                    : running != null ? ProcessState.RUNNING
+                    : ProcessState.READY;
+
+                ProcessActivity activity = result.timelineIndex().activityAt(task.getId(), t);
+                String where = context + ", P" + task.getId() + " em t=" + t;
+                assertEquals(expected, activity.getState(), where);
+                if (running != null) {
+                    assertEquals(running.getStartTime(), activity.getSliceStart(), where);
+                    assertEquals(running.getEndTime(), activity.getSliceEnd(), where);
+                    assertEquals(running.getCore(), activity.getCore(), where);
+                }
+            }
+        }
+        assertNull(result.timelineIndex().activityAt(999, 0), context);
+    }
+
+    /**
+     * O diagrama com janela de tempo tem uma linha por fatia da janela, além do cabeçalho
+     */
+    private static void checkDiagramWindow(SchedulerResult result, int processes, String context) throws IOException {
+        StringWriter out = new StringWriter();
+        result.writeTimelineDiagram(out, 5, 40, 1, processes);
+        int rows = 0;
+        for (TimelineEntry entry : result.getTimeline()) {
+            if (entry.getStartTime() < 40 && entry.getEndTime() > 5) {
+                rows++;
+            }
+        }
+        assertEquals(rows + 1, out.toString().split("\n").length, context);
+    }
+
+    private static int end(List<TimelineEntry> timeline) {
+        int end = 0;
+        for (TimelineEntry entry : timeline) {
+            end = Math.max(end, entry.getEndTime());
+        }
+        return end;
+    }
+}
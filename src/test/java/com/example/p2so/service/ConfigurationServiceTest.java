@@ -0,0 +1,83 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Configuration;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Gravação em segundo plano do arquivo de configuração
+ */
+class ConfigurationServiceTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void quickUpdatesAreMergedIntoOneWriteOfTheLastSnapshot() throws Exception {
+        Path file = directory.resolve("config.txt");
+        ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        ConfigurationService service = new ConfigurationService(file, writer);
+        assertEquals("quantum:2\naging:1\ncores:1\n", Files.readString(file));  // Arquivo padrão criado na leitura
+
+        // Segura a thread de gravação enquanto as atualizações chegam
+        CountDownLatch release = new CountDownLatch(1);
+        writer.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (int i = 1; i <= 100; i++) {
+            service.updateConfiguration(i, i % 7, 1 + i % 4);
+        }
+
+        // Todas valem imediatamente, mas só uma gravação foi agendada
+        assertEquals(100, service.getConfiguration().getQuantum());
+        assertEquals(1, writer.getQueue().size());
+
+        release.countDown();
+        service.shutdown();
+        assertTrue(writer.isTerminated());
+        assertEquals(2, writer.getCompletedTaskCount());
+        assertEquals("quantum:100\naging:2\ncores:1\n", Files.readString(file));
+
+        // Uma nova leitura traz o último snapshot gravado
+        Configuration reloaded = new ConfigurationService(file, writer).loadConfiguration();
+        assertEquals(100, reloaded.getQuantum());
+        assertEquals(2, reloaded.getAgingRate());
+        assertEquals(1, reloaded.getCores());
+    }
+
+    @Test
+    void updateAfterAWriteSchedulesAnotherOne() throws InterruptedException, IOException {
+        Path file = directory.resolve("config.txt");
+        ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        ConfigurationService service = new ConfigurationService(file, writer);
+
+        service.updateConfiguration(3, 0, 2);
+        awaitCompleted(writer, 1);
+        assertEquals("quantum:3\naging:0\ncores:2\n", Files.readString(file));
+
+        service.updateConfiguration(5, 1);
+        service.shutdown();
+        assertEquals(2, writer.getCompletedTaskCount());
+        assertEquals("quantum:5\naging:1\ncores:2\n", Files.readString(file));
+    }
+
+    private static void awaitCompleted(ThreadPoolExecutor executor, long tasks) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getCompletedTaskCount() < tasks && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
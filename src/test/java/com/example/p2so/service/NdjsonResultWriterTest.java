@@ -0,0 +1,108 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Configuration;
+import com.example.p2so.model.Workload;
+import com.example.p2so.scheduler.FCFSScheduler;
+import com.example.p2so.scheduler.ProcessTable;
+import com.example.p2so.scheduler.RoundRobinScheduler;
+import com.example.p2so.scheduler.Scheduler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cada linha escrita deve ser um documento JSON válido, inclusive com textos que precisam de escape
+ */
+class NdjsonResultWriterTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void everyLineIsValidJson() throws IOException {
+        Workload workload = new WorkloadParser().parse("0 5 1\n1 3 2\n2 8 1\n30 2 3");
+        StringWriter out = new StringWriter();
+        NdjsonResultWriter writer = new NdjsonResultWriter(out);
+
+        writer.writeWorkload(workload.size(), 2, List.of(3, 7));
+        writer.write(new FCFSScheduler(new Configuration(2, 1)), new ProcessTable(workload));
+        writer.write(new RoundRobinScheduler(new Configuration(2, 1, 2)), new ProcessTable(workload));
+
+        List<JsonNode> lines = parse(out);
+        assertEquals("workload", lines.get(0).get("type").asText());
+        assertEquals(List.of(3, 7), List.of(lines.get(0).get("malformedLines").get(0).asInt(),
+                                            lines.get(0).get("malformedLines").get(1).asInt()));
+
+        int processes = 0;
+        int summaries = 0;
+        for (JsonNode line : lines) {
+            switch (line.get("type").asText()) {
+                case "slice" -> assertTrue(line.get("endTime").asInt() > line.get("startTime").asInt(), line.toString());
+                case "process" -> processes++;
+                case "summary" -> {
+                    summaries++;
+                    assertTrue(line.get("averageWaitingTime").isNumber(), line.toString());
+                    assertTrue(line.get("waitingTimePercentiles").get("p99").isNumber(), line.toString());
+                }
+                default -> { }
+            }
+        }
+        assertEquals(2 * workload.size(), processes);
+        assertEquals(2, summaries);
+        assertEquals(2, lines.get(lines.size() - 1).get("coreMetrics").size());
+    }
+
+    @Test
+    void escapesQuotesBackslashesAndControlCharacters() throws IOException {
+        String name = "FCFS \"rápido\" \\ \n\t\r \u0000\u001f fim";
+        Scheduler scheduler = new FCFSScheduler(new Configuration(2, 1)) {
+            @Override
+            public String getAlgorithmName() {
+                return name;
+            }
+        };
+        StringWriter out = new StringWriter();
+        NdjsonResultWriter writer = new NdjsonResultWriter(out);
+
+        writer.write(scheduler, new ProcessTable(new WorkloadParser().parse("0 2 1\n1 1 1")));
+        writer.writeError("linha \"3\":\n\u0007valor inválido");
+
+        List<JsonNode> lines = parse(out);
+        assertEquals(name, lines.get(0).get("algorithm").asText());
+        assertEquals(name, lines.get(lines.size() - 2).get("algorithm").asText());
+        assertEquals("linha \"3\":\n\u0007valor inválido", lines.get(lines.size() - 1).get("error").asText());
+    }
+
+    @Test
+    void emptyWorkloadAndMissingErrorMessageStayValid() throws IOException {
+        StringWriter out = new StringWriter();
+        NdjsonResultWriter writer = new NdjsonResultWriter(out);
+
+        writer.writeWorkload(0, 1, List.of(1));
+        writer.write(new FCFSScheduler(new Configuration(2, 1)), new ProcessTable(new WorkloadParser().parse("")));
+        writer.writeError(null);
+
+        List<JsonNode> lines = parse(out);
+        assertEquals(4, lines.size());
+        assertEquals(0, lines.get(2).get("averageTurnaroundTime").asDouble());
+        assertTrue(lines.get(3).get("error").isNull());
+    }
+
+    /**
+     * Lê cada linha como um documento JSON completo
+     */
+    private static List<JsonNode> parse(StringWriter out) throws IOException {
+        String text = out.toString();
+        assertTrue(text.endsWith("\n"));
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            lines.add(MAPPER.readTree(line));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Configuration;
+import com.example.p2so.model.SchedulerResult;
+import com.example.p2so.model.Workload;
+import com.example.p2so.model.WorkloadSpec;
+import com.example.p2so.scheduler.FCFSScheduler;
+import com.example.p2so.scheduler.ProcessTable;
+import com.example.p2so.scheduler.ProgressListener;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Chave e remoção (LRU por entradas e por peso) do cache de resultados
+ */
+class ResultCacheTest {
+    private static final Configuration CONFIG = new Configuration(2, 1, 1);
+
+    @Test
+    void keyUsesWorkloadContentAlgorithmAndConfiguration() {
+        ResultCache cache = new ResultCache(16, 1_000);
+        SchedulerResult result = schedule(workload("0 3 1\n1 2 2"));
+        cache.put(workload("0 3 1\n1 2 2"), "FCFS", CONFIG, result);
+
+        // Outra instância com o mesmo conteúdo encontra o resultado
+        assertSame(result, cache.get(workload("0 3 1\n1 2 2"), "FCFS", new Configuration(2, 1, 1)));
+
+        assertNull(cache.get(workload("0 3 1\n1 2 3"), "FCFS", CONFIG));
+        assertNull(cache.get(workload("0 3 1\n1 2 2"), "SJF", CONFIG));
+        assertNull(cache.get(workload("0 3 1\n1 2 2"), "FCFS", new Configuration(3, 1, 1)));
+        assertNull(cache.get(workload("0 3 1\n1 2 2"), "FCFS", new Configuration(2, 0, 1)));
+        assertNull(cache.get(workload("0 3 1\n1 2 2"), "FCFS", new Configuration(2, 1, 2)));
+
+        assertEquals(1, cache.getHits());
+        assertEquals(5, cache.getMisses());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenFull() {
+        ResultCache cache = new ResultCache(2, 1_000);
+        Workload a = workload("0 1 1");
+        Workload b = workload("0 2 1");
+        Workload c = workload("0 3 1");
+        cache.put(a, "FCFS", CONFIG, schedule(a));
+        cache.put(b, "FCFS", CONFIG, schedule(b));
+        cache.get(a, "FCFS", CONFIG);  // b passa a ser o menos usado
+        cache.put(c, "FCFS", CONFIG, schedule(c));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get(b, "FCFS", CONFIG));
+        assertEquals(schedule(a).getAverageTurnaroundTime(), cache.get(a, "FCFS", CONFIG).getAverageTurnaroundTime());
+        assertEquals(schedule(c).getAverageTurnaroundTime(), cache.get(c, "FCFS", CONFIG).getAverageTurnaroundTime());
+    }
+
+    @Test
+    void evictsUntilWeightFits() {
+        Workload small = workload("0 1 1");
+        Workload large = workload("0 1 1\n0 1 1\n0 1 1\n0 1 1");
+        long smallWeight = weight(small, schedule(small));
+        long largeWeight = weight(large, schedule(large));
+        ResultCache cache = new ResultCache(16, largeWeight + smallWeight);
+
+        cache.put(small, "FCFS", CONFIG, schedule(small));
+        cache.put(small, "SJF", CONFIG, schedule(small));
+        assertEquals(2 * smallWeight, cache.weight());
+
+        // Cabe apenas com a remoção da entrada mais antiga
+        cache.put(large, "FCFS", CONFIG, schedule(large));
+        assertEquals(2, cache.size());
+        assertEquals(largeWeight + smallWeight, cache.weight());
+        assertNull(cache.get(small, "FCFS", CONFIG));
+
+        // Substituir a mesma chave não acumula peso
+        cache.put(large, "FCFS", CONFIG, schedule(large));
+        assertEquals(largeWeight + smallWeight, cache.weight());
+    }
+
+    @Test
+    void skipsResultsHeavierThanTheLimit() {
+        Workload large = workload("0 1 1\n0 1 1\n0 1 1\n0 1 1");
+        ResultCache cache = new ResultCache(16, weight(large, schedule(large)) - 1);
+        cache.put(large, "FCFS", CONFIG, schedule(large));
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weight());
+
+        ResultCache disabled = new ResultCache(0, 1_000);
+        disabled.put(large, "FCFS", CONFIG, schedule(large));
+        assertEquals(0, disabled.size());
+    }
+
+    @Test
+    void weightCountsPerProcessStructuresOfLargeResults() {
+        WorkloadSpec spec = new WorkloadSpec();
+        spec.setProcessCount(150_000);
+        Workload large = WorkloadGenerator.generate(spec);
+        Workload small = workload("0 1 1");
+
+        // Acima do limite de métricas por processo o resultado só traz médias, mas ainda
+        // guarda a carga da chave e os intervalos de chegada e conclusão de cada processo
+        SchedulerResult result = largeResult(large);
+        long stored = weight(large, result);
+        assertEquals(0, result.getProcessMetrics().size());
+        assertTrue(stored >= result.getTimeline().size() + 2L * large.size());
+
+        ResultCache tight = new ResultCache(16, result.getTimeline().size() + large.size());
+        tight.put(large, "FCFS", CONFIG, result);
+        assertEquals(0, tight.size());
+
+        // Peso com o índice do timeline, medido num resultado equivalente
+        SchedulerResult indexed = largeResult(large);
+        indexed.timelineIndex();
+        long withIndex = weight(large, indexed);
+        assertTrue(withIndex > stored + weight(small, schedule(small)));
+
+        ResultCache cache = new ResultCache(16, withIndex);
+        cache.put(small, "FCFS", CONFIG, schedule(small));
+        cache.put(large, "FCFS", CONFIG, result);
+        assertEquals(stored + weight(small, schedule(small)), cache.weight());
+
+        // O índice criado numa consulta entra no peso no próximo acesso e remove o menos usado
+        result.timelineIndex();
+        assertSame(result, cache.get(large, "FCFS", CONFIG));
+        assertEquals(1, cache.size());
+        assertEquals(withIndex, cache.weight());
+        assertNull(cache.get(small, "FCFS", CONFIG));
+    }
+
+    private static SchedulerResult largeResult(Workload workload) {
+        return new FCFSScheduler(CONFIG).schedule(new ProcessTable(workload), ProgressListener.NONE, false);
+    }
+
+    private static Workload workload(String text) {
+        return new WorkloadParser().parse(text);
+    }
+
+    private static SchedulerResult schedule(Workload workload) {
+        return new FCFSScheduler(CONFIG).schedule(workload);
+    }
+
+    /**
+     * Peso esperado de uma entrada: processos da carga mais o peso do resultado
+     */
+    private static long weight(Workload workload, SchedulerResult result) {
+        return workload.size() + result.weight();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Configuration;
+import com.example.p2so.model.SweepPoint;
+import com.example.p2so.model.Workload;
+import com.example.p2so.model.WorkloadSpec;
+import com.example.p2so.scheduler.ProcessTable;
+import com.example.p2so.scheduler.RoundRobinPriorityScheduler;
+import com.example.p2so.scheduler.RoundRobinScheduler;
+import com.example.p2so.scheduler.Scheduler;
+import com.example.p2so.scheduler.SimulationState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prazo das simulações e varredura de quantum × aging (configuração de cada ponto e limite da grade)
+ */
+class SchedulerServiceTest {
+    private final SchedulerService service = new SchedulerService(
+        new ConfigurationService(), new SimulationMetrics(new SimpleMeterRegistry()), 60_000, 16, 1_000_000, 100_000);
+
+    @Test
+    void deadlineCancelsPendingSimulationsWithoutCaching() {
+        SchedulerService limited = new SchedulerService(
+            new ConfigurationService(), new SimulationMetrics(new SimpleMeterRegistry()), 1, 16, 100_000_000, 100_000);
+        WorkloadSpec spec = new WorkloadSpec();
+        spec.setProcessCount(400_000);
+        spec.setMeanInterArrival(1.0);
+        Workload workload = WorkloadGenerator.generate(spec);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                                                   () -> limited.runAllSchedulers(workload, new Configuration(2, 1)));
+        assertTrue(error.getMessage().contains("Tempo limite de 1 ms excedido"), error.getMessage());
+
+        // Nenhum resultado parcial fica no cache; a próxima chamada simula de novo
+        assertEquals(0, limited.getCache().size());
+        assertEquals(0, limited.getCache().weight());
+    }
+
+    @Test
+    void sweepPointsKeepTheConfiguredCores() {
+        WorkloadSpec spec = new WorkloadSpec();
+        spec.setProcessCount(500);
+        spec.setMeanInterArrival(2.0);
+        Workload workload = WorkloadGenerator.generate(spec);
+        Configuration config = new Configuration(2, 1, 3);
+
+        List<SweepPoint> points = service.sweep(workload, config, new int[] {1, 4}, new int[] {0, 2});
+
+        assertEquals(6, points.size());
+        for (SweepPoint point : points) {
+            boolean roundRobin = point.getAlgorithm().equals("ROUND_ROBIN");
+            assertEquals(roundRobin, point.getAgingRate() == null);
+            Scheduler scheduler = roundRobin
+                ? new RoundRobinScheduler(config.with(point.getQuantum(), 0))
+                : new RoundRobinPriorityScheduler(config.with(point.getQuantum(), point.getAgingRate()));
+            SimulationState state = scheduler.simulate(new ProcessTable(workload), (start, end, id) -> { });
+
+            assertEquals(state.getAverageTurnaroundTime(), point.getAverageTurnaroundTime());
+            assertEquals(state.getAverageWaitingTime(), point.getAverageWaitingTime());
+            assertEquals(state.getContextSwitches(), point.getContextSwitches());
+        }
+
+        // Com um único núcleo o resultado seria outro
+        SimulationState singleCore = new RoundRobinScheduler(new Configuration(1, 0))
+            .simulate(new ProcessTable(workload), (start, end, id) -> { });
+        assertNotEquals(singleCore.getAverageWaitingTime(), points.get(0).getAverageWaitingTime());
+        assertNull(points.get(0).getAgingRate());
+    }
+
+    @Test
+    void sweepRejectsGridsAboveTheLimit() {
+        Workload workload = new WorkloadParser().parse("0 3 1\n1 2 2");
+        int[] quanta = new int[100];
+        int[] agingRates = new int[SchedulerService.MAX_SWEEP_POINTS / 100];
+        for (int i = 0; i < quanta.length; i++) {
+            quanta[i] = i + 1;
+        }
+
+        // Round-Robin (um ponto por quantum) + Round-Robin com Prioridade (quantum × aging)
+        assertThrows(IllegalArgumentException.class,
+                     () -> service.sweep(workload, new Configuration(2, 1), quanta, agingRates));
+    }
+}
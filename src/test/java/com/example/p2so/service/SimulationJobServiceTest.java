@@ -0,0 +1,128 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Configuration;
+import com.example.p2so.model.JobStatus;
+import com.example.p2so.model.SchedulerResult;
+import com.example.p2so.model.SimulationJob;
+import com.example.p2so.model.Workload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Jobs assíncronos com um pool de uma thread e fila de uma posição: rejeição com a fila cheia,
+ * falha por Error e expiração pelo TTL
+ */
+class SimulationJobServiceTest {
+    private static final Configuration CONFIG = new Configuration(2, 1);
+    private static final Workload WORKLOAD = new WorkloadParser().parse("0 3 1\n1 2 2");
+
+    private final SchedulerService schedulerService = new SchedulerService(
+        new ConfigurationService(), new SimulationMetrics(new SimpleMeterRegistry()), 60_000, 16, 1_000_000, 100_000);
+    private SimulationJobService jobs;
+
+    @AfterEach
+    void shutdown() {
+        if (jobs != null) {
+            jobs.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsSubmissionsWhenTheQueueIsFull() throws InterruptedException {
+        jobs = new SimulationJobService(schedulerService, 1, 1, 600_000);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        jobs.execute(() -> {
+            running.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // A única thread está ocupada: o primeiro job ocupa a fila e o segundo é rejeitado
+        SimulationJob queued = jobs.submit(WORKLOAD, CONFIG);
+        assertEquals(JobStatus.QUEUED, queued.getStatus());
+        assertThrows(RejectedExecutionException.class, () -> jobs.submit(WORKLOAD, CONFIG));
+        assertThrows(RejectedExecutionException.class, () -> jobs.execute(() -> { }));
+
+        release.countDown();
+        awaitFinished(queued);
+        assertEquals(JobStatus.DONE, queued.getStatus());
+        assertEquals(7, queued.getResults().size());
+        assertNotNull(jobs.submit(WORKLOAD, CONFIG));
+    }
+
+    @Test
+    void errorsMarkTheJobFailedAndKeepThePoolRunning() throws InterruptedException {
+        SchedulerService failing = new SchedulerService(
+            new ConfigurationService(), new SimulationMetrics(new SimpleMeterRegistry()), 60_000, 16, 1_000_000, 100_000) {
+            @Override
+            public Map<String, SchedulerResult> runAllSchedulers(Workload workload, Configuration config) {
+                if (workload.size() == 1) {
+                    throw new StackOverflowError("pilha esgotada");
+                }
+                return super.runAllSchedulers(workload, config);
+            }
+        };
+        jobs = new SimulationJobService(failing, 1, 1, 600_000);
+
+        SimulationJob job = jobs.submit(new WorkloadParser().parse("0 1 1"), CONFIG);
+        awaitFinished(job);
+        assertEquals(JobStatus.FAILED, job.getStatus());
+        assertEquals("Erro ao executar simulação: pilha esgotada", job.getError());
+        assertNull(job.getResults());
+        assertTrue(job.getFinishedAt() > 0);
+
+        // A thread que morreu com o Error é substituída
+        SimulationJob next = jobs.submit(WORKLOAD, CONFIG);
+        awaitFinished(next);
+        assertEquals(JobStatus.DONE, next.getStatus());
+    }
+
+    @Test
+    void finishedJobsExpireAfterTheTtl() throws InterruptedException {
+        jobs = new SimulationJobService(schedulerService, 1, 1, 50);
+        SimulationJob job = jobs.submit(WORKLOAD, CONFIG);
+        awaitFinished(job);
+        assertSame(job, jobs.getJob(job.getId()));
+
+        // A limpeza roda a cada segundo (período mínimo)
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (jobs.getJob(job.getId()) != null) {
+            if (System.nanoTime() > deadline) {
+                fail("Job não expirou");
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private static void awaitFinished(SimulationJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!job.isFinished()) {
+            if (System.nanoTime() > deadline) {
+                fail("Job não terminou: " + job.getStatus());
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Configuration;
+import com.example.p2so.model.Workload;
+import com.example.p2so.model.WorkloadSpec;
+import com.example.p2so.scheduler.FCFSScheduler;
+import com.example.p2so.scheduler.ProcessTable;
+import com.example.p2so.scheduler.RoundRobinScheduler;
+import com.example.p2so.scheduler.Scheduler;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Agrupamento das fatias e contagem das descartadas com um cliente lento de propósito:
+ * em cada algoritmo, as fatias enviadas mais as descartadas somam o total da simulação
+ */
+class SseProgressPublisherTest {
+    private static final int MAX_PENDING_SLICES = 64;
+
+    @Test
+    void sentAndDroppedSlicesAddUpWithSlowClient() throws Exception {
+        WorkloadSpec spec = new WorkloadSpec();
+        spec.setProcessCount(20_000);
+        Workload workload = WorkloadGenerator.generate(spec);
+        List<Scheduler> schedulers = List.of(new FCFSScheduler(new Configuration(2, 1)),
+                                             new RoundRobinScheduler(new Configuration(2, 1)));
+
+        SlowEmitter emitter = new SlowEmitter();
+        SseProgressPublisher publisher = new SseProgressPublisher(emitter, workload.size(), MAX_PENDING_SLICES);
+
+        // Envio periódico numa thread separada, como em ProgressStreamService
+        AtomicReference<Exception> senderError = new AtomicReference<>();
+        Thread sender = Thread.ofVirtual().start(() -> {
+            try {
+                do {
+                    Thread.sleep(1);
+                } while (!publisher.flush());
+            } catch (Exception e) {
+                senderError.set(e);
+            }
+        });
+        ProcessTable table = new ProcessTable(workload);
+        for (Scheduler scheduler : schedulers) {
+            publisher.run(scheduler, table);
+        }
+        publisher.finish(null);
+        sender.join();
+        assertNull(senderError.get());
+
+        List<String> names = emitter.names();
+        assertEquals("algorithm", names.get(0));
+        assertEquals("done", names.get(names.size() - 1));
+
+        int totalDropped = 0;
+        for (Scheduler scheduler : schedulers) {
+            int[] expected = slices(scheduler, workload);
+            int sent = 0;
+            int dropped = 0;
+            int[] last = null;
+            for (Map<?, ?> data : emitter.data("slices")) {
+                if (!scheduler.getAlgorithmName().equals(data.get("algorithm"))) {
+                    continue;
+                }
+                int[] batch = (int[]) data.get("slices");
+                assertTrue(batch.length / 3 <= MAX_PENDING_SLICES, "Lote maior que o limite: " + batch.length / 3);
+                sent += batch.length / 3;
+                dropped += (Integer) data.get("dropped");
+                if (batch.length > 0) {
+                    last = batch;
+                }
+            }
+
+            assertEquals(expected.length / 3, sent + dropped, scheduler.getAlgorithmName());
+            // As fatias mais novas são mantidas: a última enviada é a última da simulação
+            assertArrayEquals(Arrays.copyOfRange(expected, expected.length - 3, expected.length),
+                              Arrays.copyOfRange(last, last.length - 3, last.length));
+            totalDropped += dropped;
+        }
+        assertTrue(totalDropped > 0, "O cliente lento deveria causar descartes");
+    }
+
+    @Test
+    void keepsEverySliceWhileUnderTheLimit() throws IOException {
+        Workload workload = new WorkloadParser().parse("0 5 1\n1 3 2\n2 8 1");
+        Scheduler scheduler = new RoundRobinScheduler(new Configuration(2, 1));
+        SlowEmitter emitter = new SlowEmitter();
+        SseProgressPublisher publisher = new SseProgressPublisher(emitter, workload.size(), MAX_PENDING_SLICES);
+
+        publisher.run(scheduler, new ProcessTable(workload));
+        publisher.finish(null);
+        assertTrue(publisher.flush());
+
+        List<Map<?, ?>> batches = emitter.data("slices");
+        assertEquals(1, batches.size());
+        assertArrayEquals(slices(scheduler, workload), (int[]) batches.get(0).get("slices"));
+        assertEquals(0, batches.get(0).get("dropped"));
+        assertEquals(List.of("algorithm", "slices", "progress", "summary", "done"), emitter.names());
+    }
+
+    /**
+     * Fatias da simulação como [início, fim, processId, ...]
+     */
+    private static int[] slices(Scheduler scheduler, Workload workload) {
+        List<Integer> slices = new ArrayList<>();
+        scheduler.simulate(new ProcessTable(workload), (start, end, id) -> {
+            slices.add(start);
+            slices.add(end);
+            slices.add(id);
+        });
+        return slices.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Emitter que registra os eventos enviados e demora em cada envio
+     */
+    private static class SlowEmitter extends SseEmitter {
+        private final List<String> names = new CopyOnWriteArrayList<>();
+        private final List<Object> data = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            String name = null;
+            Object payload = null;
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String text && text.startsWith("event:")) {
+                    name = text.substring("event:".length(), text.indexOf('\n'));
+                } else if (!(part.getData() instanceof String)) {
+                    payload = part.getData();
+                }
+            }
+            names.add(name);
+            data.add(payload);
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        List<String> names() {
+            return names;
+        }
+
+        List<Map<?, ?>> data(String name) {
+            List<Map<?, ?>> events = new ArrayList<>();
+            for (int i = 0; i < names.size(); i++) {
+                if (name.equals(names.get(i))) {
+                    events.add((Map<?, ?>) data.get(i));
+                }
+            }
+            return events;
+        }
+    }
+}
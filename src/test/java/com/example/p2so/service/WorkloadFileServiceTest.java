@@ -0,0 +1,98 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Workload;
+import com.example.p2so.model.WorkloadSpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Gravação e leitura do formato binário de carga
+ */
+class WorkloadFileServiceTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripKeepsIdsOfProcessesOutOfArrivalOrder() throws IOException {
+        // P1 chega por último: os registros ficam na ordem P2, P3, P1
+        Workload workload = new WorkloadParser().parse("5 3 1\n0 2 2\n0 4 2");
+        Path file = directory.resolve("ids.bin");
+
+        WorkloadFileService.write(workload, file);
+        Workload read = WorkloadFileService.read(file);
+
+        assertEquals(workload, read);
+        assertEquals(2, read.getId(0));
+        assertEquals(3, read.getId(1));
+        assertEquals(1, read.getId(2));
+        assertEquals(WorkloadFileService.HEADER_SIZE + 3L * WorkloadFileService.RECORD_SIZE, Files.size(file));
+    }
+
+    @Test
+    void roundTripOfGeneratedWorkload() throws IOException {
+        WorkloadSpec spec = new WorkloadSpec();
+        spec.setProcessCount(50_000);
+        Workload workload = WorkloadGenerator.generate(spec);
+        Path file = directory.resolve("generated.bin");
+
+        WorkloadFileService.write(workload, file);
+
+        assertEquals(workload, WorkloadFileService.read(file));
+    }
+
+    @Test
+    void rejectsNonPositiveBurstAndNegativeArrival() throws IOException {
+        Path burst = directory.resolve("burst.bin");
+        Path arrival = directory.resolve("arrival.bin");
+        Files.write(burst, file(2, WorkloadFileService.RECORD_SIZE, new int[] {1, 0, 3, 1}, new int[] {2, 1, 0, 1}));
+        Files.write(arrival, file(1, WorkloadFileService.RECORD_SIZE, new int[] {1, -1, 3, 1}));
+
+        IOException error = assertThrows(IOException.class, () -> WorkloadFileService.read(burst));
+        assertTrue(error.getMessage().contains("duração não positiva no registro 2"), error.getMessage());
+        error = assertThrows(IOException.class, () -> WorkloadFileService.read(arrival));
+        assertTrue(error.getMessage().contains("chegada negativa no registro 1"), error.getMessage());
+    }
+
+    @Test
+    void rejectsInconsistentHeader() throws IOException {
+        int[] record = {1, 0, 3, 1};
+        Path older = directory.resolve("older.bin");
+        Path recordSize = directory.resolve("record-size.bin");
+        Path truncated = directory.resolve("truncated.bin");
+
+        // Versão 1 (registros sem ID) não é mais aceita
+        byte[] content = file(1, WorkloadFileService.RECORD_SIZE, record);
+        ByteBuffer.wrap(content).order(ByteOrder.LITTLE_ENDIAN).putInt(4, 1);
+        Files.write(older, content);
+        Files.write(recordSize, file(1, 12, record));
+        Files.write(truncated, file(3, WorkloadFileService.RECORD_SIZE, record, record));
+
+        assertThrows(IOException.class, () -> WorkloadFileService.read(older));
+        assertThrows(IOException.class, () -> WorkloadFileService.read(recordSize));
+        assertThrows(IOException.class, () -> WorkloadFileService.read(truncated));
+    }
+
+    /**
+     * Conteúdo de um arquivo com o cabeçalho informado e os registros (id, chegada, duração, prioridade)
+     */
+    private static byte[] file(int count, int recordSize, int[]... records) {
+        ByteBuffer buffer = ByteBuffer.allocate(WorkloadFileService.HEADER_SIZE + records.length * WorkloadFileService.RECORD_SIZE)
+                                      .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(WorkloadFileService.MAGIC).putInt(WorkloadFileService.VERSION).putInt(count).putInt(recordSize);
+        for (int[] record : records) {
+            for (int field : record) {
+                buffer.putInt(field);
+            }
+        }
+        return buffer.array();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Workload;
+import com.example.p2so.model.WorkloadSpec;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reprodutibilidade e validação do gerador de cargas sintéticas
+ */
+class WorkloadGeneratorTest {
+
+    @Test
+    void sameSpecGeneratesSameWorkload() {
+        WorkloadSpec spec = new WorkloadSpec();
+        spec.setArrivals(WorkloadSpec.Arrivals.BURSTY);
+        spec.setBursts(WorkloadSpec.Bursts.PARETO);
+        spec.setPriorities(WorkloadSpec.Priorities.ZIPF);
+
+        Workload workload = WorkloadGenerator.generate(spec);
+        assertEquals(workload, WorkloadGenerator.generate(spec));
+        for (int i = 0; i < workload.size(); i++) {
+            assertTrue(workload.getBurstTime(i) >= 1 && workload.getBurstTime(i) <= spec.getMaxBurst());
+            assertTrue(workload.getPriority(i) >= spec.getPriorityMin() && workload.getPriority(i) <= spec.getPriorityMax());
+        }
+    }
+
+    @Test
+    void zipfPrioritiesAreLimitedToMaxLevels() {
+        WorkloadSpec spec = new WorkloadSpec();
+        spec.setProcessCount(10);
+        spec.setPriorities(WorkloadSpec.Priorities.ZIPF);
+        spec.setPriorityMin(1);
+        spec.setPriorityMax(WorkloadGenerator.MAX_ZIPF_LEVELS);
+        assertEquals(10, WorkloadGenerator.generate(spec).size());
+
+        // Sem o limite, a tabela acumulada teria 2^31 posições
+        spec.setPriorityMin(Integer.MIN_VALUE);
+        spec.setPriorityMax(0);
+        assertThrows(IllegalArgumentException.class, () -> WorkloadGenerator.generate(spec));
+        spec.setPriorityMin(1);
+        spec.setPriorityMax(WorkloadGenerator.MAX_ZIPF_LEVELS + 1);
+        assertThrows(IllegalArgumentException.class, () -> WorkloadGenerator.generate(spec));
+
+        // Uniforme não usa a tabela, mas a faixa precisa caber num int
+        spec.setPriorities(WorkloadSpec.Priorities.UNIFORM);
+        assertEquals(10, WorkloadGenerator.generate(spec).size());
+        spec.setPriorityMin(Integer.MIN_VALUE);
+        spec.setPriorityMax(Integer.MAX_VALUE);
+        assertThrows(IllegalArgumentException.class, () -> WorkloadGenerator.generate(spec));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.p2so.service;
+
+import com.example.p2so.model.Workload;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Leitura do formato texto: linhas válidas, vazias e mal formadas
+ */
+class WorkloadParserTest {
+
+    @Test
+    void parsesValidLinesInInputOrder() {
+        Workload workload = new WorkloadParser().parse("5 3 1\n0 2 2\r\n\n  7\t4 3 99\n1 1 -2");
+
+        // IDs pela ordem da entrada; a carga fica ordenada por chegada
+        assertEquals(4, workload.size());
+        assertEquals("P2 0 2 2, P4 1 1 -2, P1 5 3 1, P3 7 4 3", describe(workload));
+    }
+
+    @Test
+    void discardsMalformedLinesAndReportsTheirNumbers() {
+        WorkloadParser parser = new WorkloadParser();
+        Workload workload = parser.parse("0 5 1\n"
+                                         + "1 2\n"              // Campos a menos
+                                         + "2 x 1\n"            // Caractere inválido
+                                         + "3 - 1\n"            // Sinal sem dígitos
+                                         + "4 2147483648 1\n"   // Excede int
+                                         + "5 3-1 1\n"          // Sinal no meio do número
+                                         + "1 0 1\n"            // Duração zero
+                                         + "1 -3 1\n"           // Duração negativa
+                                         + "-1 2 1\n"           // Chegada negativa
+                                         + "   \n"              // Vazia: ignorada, não é inválida
+                                         + "6 4 2");
+
+        assertEquals("P1 0 5 1, P2 6 4 2", describe(workload));
+        assertEquals(8, parser.getMalformedCount());
+        assertEquals(List.of(2, 3, 4, 5, 6, 7, 8, 9), parser.getMalformedLines());
+    }
+
+    @Test
+    void keepsOnlyTheFirstMalformedLineNumbers() {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 250; i++) {
+            input.append(i % 2 == 0 ? "a b c\n" : i + " 1 1\n");
+        }
+        WorkloadParser parser = new WorkloadParser();
+        Workload workload = parser.parse(input);
+
+        assertEquals(125, workload.size());
+        assertEquals(125, parser.getMalformedCount());
+        assertEquals(100, parser.getMalformedLines().size());
+        assertEquals(1, (int) parser.getMalformedLines().get(0));
+        assertEquals(199, (int) parser.getMalformedLines().get(99));
+    }
+
+    @Test
+    void streamAndTextInputsAgree() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 30_000; i++) {
+            input.append(i).append(' ').append(1 + i % 17).append(' ').append(i % 5).append(i % 1000 == 0 ? " ?\n" : "\n");
+        }
+        input.append("1 2 x");
+
+        WorkloadParser text = new WorkloadParser();
+        WorkloadParser stream = new WorkloadParser();
+        Workload fromText = text.parse(input);
+        Workload fromStream = stream.parse(new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(fromText, fromStream);
+        assertEquals(30_000, fromStream.size());
+        assertEquals(1, stream.getMalformedCount());
+        assertEquals(List.of(30_001), stream.getMalformedLines());
+    }
+
+    private static String describe(Workload workload) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < workload.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('P').append(workload.getId(i)).append(' ').append(workload.getArrivalTime(i)).append(' ')
+              .append(workload.getBurstTime(i)).append(' ').append(workload.getPriority(i));
+        }
+        return sb.toString();
+    }
+}